@@ -0,0 +1,44 @@
+package com.example.authcommon;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+import java.util.Optional;
+
+/**
+ * 검증된 토큰의 사용자 정보를 담는 request attribute 이름과 조회 헬퍼
+ * 컨트롤러에서는 @RequestAttribute(name = AuthAttributes.USER_ID, required = false) 로도 받을 수 있다.
+ */
+public final class AuthAttributes {
+
+    public static final String USER_ID = "auth.userId";
+    public static final String USER_NAME = "auth.userName";
+    // 내부 인증 헤더가 확인된 서비스 간 호출 표시
+    public static final String INTERNAL = "auth.internal";
+    // 서비스 간 Feign 호출이 보내는 내부 인증 헤더 (값은 auth.internal-secret)
+    public static final String INTERNAL_HEADER = "X-Internal-Auth";
+
+    private AuthAttributes() {
+    }
+
+    public static Optional<Long> getUserId(HttpServletRequest request) {
+        return Optional.ofNullable((Long) request.getAttribute(USER_ID));
+    }
+
+    public static Optional<String> getUserName(HttpServletRequest request) {
+        return Optional.ofNullable((String) request.getAttribute(USER_NAME));
+    }
+
+    public static boolean isInternal(HttpServletRequest request) {
+        return Boolean.TRUE.equals(request.getAttribute(INTERNAL));
+    }
+
+    // 토큰 주인과 경로의 userIdx 가 같거나 내부 인증된 서비스 간 호출이어야 함 (토큰 없는 외부 요청은 거부)
+    public static boolean isCallerOrInternal(HttpServletRequest request, Long userIdx) {
+        return isInternal(request) || getUserId(request).map(id -> id.equals(userIdx)).orElse(false);
+    }
+
+    // 닉네임으로 사용자를 받는 API 용 (notificationService)
+    public static boolean isCallerNameOrInternal(HttpServletRequest request, String userName) {
+        return isInternal(request) || getUserName(request).map(name -> name.equals(userName)).orElse(false);
+    }
+}
@@ -0,0 +1,67 @@
+package com.example.authcommon;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.kafka.annotation.KafkaListener;
+
+import java.util.List;
+
+/**
+ * 의존성만 추가하면 토큰 검증 필터가 등록됨
+ * 서명 키는 auth.secret, 없으면 기존 spring.jwt.secret 을 사용 (userService 와 같은 값이어야 함)
+ * 폐기 목록은 userService 의 로그아웃 이벤트로 채워지며, userService 자신도 같은 목록을 사용한다.
+ */
+@AutoConfiguration
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@ConditionalOnProperty(prefix = "auth", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class AuthAutoConfiguration {
+
+    @Bean
+    @ConditionalOnMissingBean
+    public TokenRevocationList tokenRevocationList(@Value("${auth.revocation.max-size:100000}") long maxSize) {
+        return new TokenRevocationList(maxSize);
+    }
+
+    @Bean
+    @ConditionalOnMissingBean
+    public JwtTokenVerifier jwtTokenVerifier(@Value("${auth.secret:${spring.jwt.secret}}") String secret,
+                                             TokenRevocationList tokenRevocationList) {
+        return new JwtTokenVerifier(secret, tokenRevocationList);
+    }
+
+    // Spring Security 로 직접 인증하는 서비스(userService)는 auth.filter.enabled=false 로 끄고 검증기만 사용
+    @Bean
+    @ConditionalOnProperty(prefix = "auth.filter", name = "enabled", havingValue = "true", matchIfMissing = true)
+    public FilterRegistrationBean<JwtVerificationFilter> jwtVerificationFilter(JwtTokenVerifier jwtTokenVerifier,
+                                                                               @Value("${auth.required:true}") boolean required,
+                                                                               @Value("${auth.internal-secret:}") String internalSecret,
+                                                                               @Value("${auth.public-paths:/actuator/**}") String[] publicPaths) {
+        FilterRegistrationBean<JwtVerificationFilter> registration = new FilterRegistrationBean<>(
+                new JwtVerificationFilter(jwtTokenVerifier, required, internalSecret, List.of(publicPaths)));
+        registration.addUrlPatterns("/*");
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 10);
+        return registration;
+    }
+
+    // Kafka 가 있는 서비스에서만 로그아웃 이벤트 구독
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(KafkaListener.class)
+    @ConditionalOnProperty(prefix = "auth.revocation", name = "enabled", havingValue = "true", matchIfMissing = true)
+    static class RevocationListenerConfiguration {
+
+        @Bean
+        public TokenRevocationListener tokenRevocationListener(TokenRevocationList tokenRevocationList,
+                                                               ObjectMapper objectMapper) {
+            return new TokenRevocationListener(tokenRevocationList, objectMapper);
+        }
+    }
+}
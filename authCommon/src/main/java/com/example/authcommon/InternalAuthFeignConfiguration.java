@@ -0,0 +1,22 @@
+package com.example.authcommon;
+
+import feign.RequestInterceptor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+
+/**
+ * 서비스 간 Feign 호출에 내부 인증 헤더(X-Internal-Auth)를 붙이는 설정
+ * 내부 서비스 클라이언트에만 @FeignClient(configuration = InternalAuthFeignConfiguration.class) 로 지정한다. (외부 API 로 값이 나가지 않도록)
+ * 사용자 토큰이 없는 Kafka 컨슈머, 스케줄러, 회원가입 중의 호출도 같은 방식으로 인증된다.
+ */
+public class InternalAuthFeignConfiguration {
+
+    @Bean
+    public RequestInterceptor internalAuthRequestInterceptor(@Value("${auth.internal-secret:}") String internalSecret) {
+        return template -> {
+            if (!internalSecret.isEmpty()) {
+                template.header(AuthAttributes.INTERNAL_HEADER, internalSecret);
+            }
+        };
+    }
+}
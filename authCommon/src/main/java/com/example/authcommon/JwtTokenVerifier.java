@@ -0,0 +1,51 @@
+package com.example.authcommon;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * userService 가 발급한 액세스 토큰을 로컬에서 검증
+ * 키와 파서는 생성 시 한 번만 만들고, 요청마다 userService 를 호출하지 않는다.
+ */
+public class JwtTokenVerifier {
+
+    private static final String CLAIM_IDX = "idx";
+    private static final String CLAIM_USER_NAME = "userName";
+    private static final String CLAIM_TYPE = "typ";
+    private static final String TYPE_REFRESH = "refresh";
+
+    private final JwtParser jwtParser;
+    private final TokenRevocationList revocationList;
+
+    public JwtTokenVerifier(String secret, TokenRevocationList revocationList) {
+        this.jwtParser = Jwts.parserBuilder()
+                .setSigningKey(Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8)))
+                .build();
+        this.revocationList = revocationList;
+    }
+
+    /**
+     * 검증 실패(서명, 만료, 리프레시 토큰, 로그아웃된 토큰) 시 JwtException 을 던진다.
+     * idx claim 이 없는 이전 형식 토큰은 userId 가 null 이다.
+     */
+    public VerifiedToken verify(String token) {
+        Claims claims = jwtParser.parseClaimsJws(token).getBody();
+        if (TYPE_REFRESH.equals(claims.get(CLAIM_TYPE, String.class))) {
+            throw new JwtException("Refresh token cannot be used as access token");
+        }
+        if (claims.getId() != null && revocationList.isRevoked(claims.getId())) {
+            throw new JwtException("Token has been revoked");
+        }
+        return new VerifiedToken(
+                claims.get(CLAIM_IDX, Long.class),
+                claims.get(CLAIM_USER_NAME, String.class),
+                claims.getSubject(),
+                claims.getId()
+        );
+    }
+}
@@ -0,0 +1,97 @@
+package com.example.authcommon;
+
+import io.jsonwebtoken.JwtException;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.List;
+
+/**
+ * Authorization 헤더의 액세스 토큰을 로컬 검증하고 사용자 id 를 request attribute 로 노출
+ * 서비스 간 호출은 X-Internal-Auth 헤더가 auth.internal-secret 과 같으면 내부 호출로 표시한다.
+ * 토큰이 없으면 401 (auth.required=false 이거나 public-paths 이면 통과), 잘못된 토큰이나 idx 가 없는 토큰은 401.
+ */
+@RequiredArgsConstructor
+public class JwtVerificationFilter extends OncePerRequestFilter {
+
+    private static final AntPathMatcher PATH_MATCHER = new AntPathMatcher();
+
+    private final JwtTokenVerifier tokenVerifier;
+    private final boolean required;
+    // 비어 있으면 내부 호출 인증을 받지 않음
+    private final String internalSecret;
+    private final List<String> publicPaths;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        String internalAuth = request.getHeader(AuthAttributes.INTERNAL_HEADER);
+        if (internalAuth != null) {
+            if (!isInternalSecret(internalAuth)) {
+                response.sendError(HttpServletResponse.SC_UNAUTHORIZED, "Invalid internal credential");
+                return;
+            }
+            request.setAttribute(AuthAttributes.INTERNAL, Boolean.TRUE);
+            chain.doFilter(request, response);
+            return;
+        }
+
+        String token = resolveToken(request);
+        if (token == null) {
+            if (required && !isPublicPath(request)) {
+                response.sendError(HttpServletResponse.SC_UNAUTHORIZED, "Missing JWT token");
+                return;
+            }
+            chain.doFilter(request, response);
+            return;
+        }
+
+        try {
+            VerifiedToken verified = tokenVerifier.verify(token);
+            // idx claim 이 없는 이전 형식 토큰은 사용자를 특정할 수 없으므로 거부 (다시 로그인해야 함)
+            if (verified.userId() == null) {
+                response.sendError(HttpServletResponse.SC_UNAUTHORIZED, "Token has no user id");
+                return;
+            }
+            request.setAttribute(AuthAttributes.USER_ID, verified.userId());
+            request.setAttribute(AuthAttributes.USER_NAME, verified.userName());
+        } catch (JwtException | IllegalArgumentException e) {
+            response.sendError(HttpServletResponse.SC_UNAUTHORIZED, "Invalid or expired JWT token");
+            return; // 필터 체인 실행을 중지
+        }
+
+        chain.doFilter(request, response);
+    }
+
+    // 프리플라이트 요청은 검증하지 않음
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return "OPTIONS".equalsIgnoreCase(request.getMethod());
+    }
+
+    private boolean isInternalSecret(String value) {
+        return !internalSecret.isEmpty()
+                && MessageDigest.isEqual(internalSecret.getBytes(StandardCharsets.UTF_8), value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private boolean isPublicPath(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        return publicPaths.stream().anyMatch(pattern -> PATH_MATCHER.match(pattern, path));
+    }
+
+    private String resolveToken(HttpServletRequest request) {
+        String bearerToken = request.getHeader("Authorization");
+        if (bearerToken != null && bearerToken.startsWith("Bearer ")) {
+            return bearerToken.substring(7);
+        }
+        return null;
+    }
+}
@@ -0,0 +1,53 @@
+package com.example.authcommon;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 로그아웃된 토큰 jti 목록 (userService 의 token-revoked 이벤트로 채워짐)
+ * 토큰 만료 시각까지만 보관한다.
+ */
+public class TokenRevocationList {
+
+    // jti -> 토큰 만료 시각(epoch millis)
+    private final Cache<String, Long> revoked;
+
+    public TokenRevocationList(long maxSize) {
+        this.revoked = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(new Expiry<String, Long>() {
+                    @Override
+                    public long expireAfterCreate(String jti, Long expiresAt, long currentTime) {
+                        return remainingNanos(expiresAt);
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String jti, Long expiresAt, long currentTime, long currentDuration) {
+                        return remainingNanos(expiresAt);
+                    }
+
+                    @Override
+                    public long expireAfterRead(String jti, Long expiresAt, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .build();
+    }
+
+    public void revoke(String jti, long expiresAt) {
+        if (jti != null && expiresAt > System.currentTimeMillis()) {
+            revoked.put(jti, expiresAt);
+        }
+    }
+
+    public boolean isRevoked(String jti) {
+        return revoked.getIfPresent(jti) != null;
+    }
+
+    private static long remainingNanos(long expiresAt) {
+        return TimeUnit.MILLISECONDS.toNanos(Math.max(0, expiresAt - System.currentTimeMillis()));
+    }
+}
@@ -0,0 +1,28 @@
+package com.example.authcommon;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.kafka.annotation.KafkaListener;
+
+// userService 의 로그아웃 이벤트를 받아 폐기 목록에 반영 (인스턴스마다 다른 group 으로 모든 인스턴스가 받음)
+@RequiredArgsConstructor
+@Slf4j
+public class TokenRevocationListener {
+
+    private final TokenRevocationList revocationList;
+    private final ObjectMapper objectMapper;
+
+    @KafkaListener(topics = "${auth.revocation.topic:token-revoked-events}",
+            groupId = "${spring.application.name}-auth-revoke-${auth.instance-id:${HOSTNAME:${random.uuid}}}",
+            properties = "auto.offset.reset=latest")
+    public void consume(String payload) {
+        try {
+            JsonNode event = objectMapper.readTree(payload);
+            revocationList.revoke(event.path("jti").asText(null), event.path("expiresAt").asLong());
+        } catch (Exception e) {
+            log.error("Skipping malformed token revocation event: {}", payload, e);
+        }
+    }
+}
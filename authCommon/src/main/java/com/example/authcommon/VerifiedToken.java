@@ -0,0 +1,5 @@
+package com.example.authcommon;
+
+// 서명/만료/폐기 검증을 통과한 액세스 토큰의 claim
+public record VerifiedToken(Long userId, String userName, String email, String jti) {
+}
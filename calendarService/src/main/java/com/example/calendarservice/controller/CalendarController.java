@@ -1,8 +1,12 @@
 package com.example.calendarservice.controller;
 
+import com.example.authcommon.AuthAttributes;
 import com.example.calendarservice.service.CalendarService;
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
 
 @RestController
 @RequestMapping("calendar-service")
@@ -13,15 +17,23 @@ public class CalendarController {
 
 
     @PostMapping("/create/{userId}")
-    String createCalendar(@PathVariable(value = "userId") Long userId){
+    String createCalendar(@PathVariable(value = "userId") Long userId, HttpServletRequest request){
+        checkCaller(request, userId);
         calendarService.createCalendar(userId);
         return "성공하였습니다.";
     }
 
     @DeleteMapping("/delete/{userId}")
-    String deleteCalendar(@PathVariable(value = "userId") Long userId) {
+    String deleteCalendar(@PathVariable(value = "userId") Long userId, HttpServletRequest request) {
+        checkCaller(request, userId);
         calendarService.deleteCalendar(userId);
         return "success";
     }
 
+    // 토큰 주인의 요청만 허용 (userService 의 Feign 호출은 내부 인증 헤더로 통과)
+    private static void checkCaller(HttpServletRequest request, Long userId) {
+        if (!AuthAttributes.isCallerOrInternal(request, userId)) {
+            throw new ResponseStatusException(HttpStatus.FORBIDDEN);
+        }
+    }
 }
@@ -1,14 +1,18 @@
 package com.example.calendarservice.controller;
 
+import com.example.authcommon.AuthAttributes;
 import com.example.calendarservice.dto.request.CommentsRequestInsertDto;
 import com.example.calendarservice.dto.request.CommentsRequestUpdateDto;
 import com.example.calendarservice.dto.response.CommentsResponseAllDto;
 import com.example.calendarservice.dto.response.CommentsResponseInsertDto;
 import com.example.calendarservice.dto.response.SharedContentDto;
 import com.example.calendarservice.service.SharedService;
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
 
 import java.util.List;
 
@@ -24,7 +28,12 @@ public class SharedController {
 
     // 쓰레드 첫화면(모든 친구의 공유 컨텐츠 조회)
     @GetMapping("/all/{userIdx}")
-    public ResponseEntity<List<SharedContentDto>> findAllShared(@PathVariable(value = "userIdx") Long userIdx) {
+    public ResponseEntity<List<SharedContentDto>> findAllShared(@PathVariable(value = "userIdx") Long userIdx,
+                                                                HttpServletRequest request) {
+        // 내 친구들의 공유 목록이므로 본인만 조회
+        if (!AuthAttributes.isCallerOrInternal(request, userIdx)) {
+            throw new ResponseStatusException(HttpStatus.FORBIDDEN);
+        }
         List<SharedContentDto> sharedContents = sharedService.findAllShared(userIdx);
         return ResponseEntity.ok(sharedContents);
     }
@@ -0,0 +1,25 @@
+package com.example.calendarservice.event;
+
+import com.example.calendarservice.constant.FriendshipEventType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+// friendService 가 발행하는 친구 관계 변경 이벤트
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class FriendshipEvent {
+
+    private String eventId;
+    private FriendshipEventType eventType;
+
+    private Long userId;
+    private Long friendId;
+
+    private LocalDateTime occurredAt;
+}
@@ -0,0 +1,31 @@
+package com.example.calendarservice.event;
+
+import com.example.calendarservice.service.FriendIdCache;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.stereotype.Component;
+
+// 친구 수락/삭제 시 두 사용자의 친구 id 캐시 제거 (인스턴스마다 다른 group 으로 모두 받음)
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class FriendshipEventConsumer {
+
+    private final FriendIdCache friendIdCache;
+    private final ObjectMapper objectMapper;
+
+    @KafkaListener(topics = "${topics.friendship}",
+            groupId = "${spring.application.name}-friend-cache-${calendar.instance-id}",
+            properties = "auto.offset.reset=latest")
+    public void consume(String payload) {
+        try {
+            FriendshipEvent event = objectMapper.readValue(payload, FriendshipEvent.class);
+            friendIdCache.invalidate(event.getUserId(), event.getFriendId());
+        } catch (JsonProcessingException e) {
+            log.error("Skipping malformed friendship event: {}", payload, e);
+        }
+    }
+}
@@ -4,6 +4,7 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.server.ResponseStatusException;
 
 @RestControllerAdvice
 public class GlobalExceptionHandler {
@@ -13,6 +14,12 @@ public class GlobalExceptionHandler {
         return ResponseEntity.badRequest().body(false);
     }
 
+    // 다른 사용자의 요청 등 상태 코드를 지정한 예외
+    @ExceptionHandler(ResponseStatusException.class)
+    public ResponseEntity<Boolean> handleResponseStatusException(ResponseStatusException e){
+        return ResponseEntity.status(e.getStatusCode()).body(false);
+    }
+
     @ExceptionHandler(Exception.class)
     public ResponseEntity<Boolean> handleGeneralException(Exception e){
         return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(false);
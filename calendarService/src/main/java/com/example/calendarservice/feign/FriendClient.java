@@ -1,5 +1,6 @@
 package com.example.calendarservice.feign;
 
+import com.example.authcommon.InternalAuthFeignConfiguration;
 import com.example.calendarservice.dto.response.UserSearchResponseDto;
 import org.springframework.cloud.openfeign.FeignClient;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -7,10 +8,14 @@ import org.springframework.web.bind.annotation.PathVariable;
 
 import java.util.List;
 
-@FeignClient(name = "friend-service", url = "${friends-service-url}")
+@FeignClient(name = "friend-service", url = "${friends-service-url}", configuration = InternalAuthFeignConfiguration.class)
 public interface FriendClient {
 
     @GetMapping("friend/{userIdx}/list")
     List<UserSearchResponseDto> getFriendsList(@PathVariable(name = "userIdx") Long userIdx);
 
+    // 친구 id 만 조회 (FriendIdCache)
+    @GetMapping("friend/{userIdx}/ids")
+    List<Long> getFriendIds(@PathVariable(name = "userIdx") Long userIdx);
+
 }
@@ -1,13 +1,16 @@
 package com.example.calendarservice.feign;
 
+import com.example.authcommon.InternalAuthFeignConfiguration;
 import org.springframework.cloud.openfeign.FeignClient;
-import org.springframework.web.bind.annotation.GetMapping;
-import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 
-@FeignClient(name = "user-service", url = "${users-service-url}")
+import java.util.List;
+
+@FeignClient(name = "user-service", url = "${users-service-url}", configuration = InternalAuthFeignConfiguration.class)
 public interface UserClient {
 
-    // userName 가져오기
-    @GetMapping("/user-service/name/{userIdx}")
-    public String getUserName(@PathVariable(name = "userIdx") Long userIdx);
+    // 여러 사용자 프로필 한 번에 조회 (작성자 이름 일괄 조회)
+    @PostMapping("/user-service/profiles")
+    List<UserProfileDto> getUserProfiles(@RequestBody List<Long> userIds);
 }
@@ -0,0 +1,37 @@
+package com.example.calendarservice.service;
+
+import com.example.calendarservice.feign.FriendClient;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 사용자별 친구 id 목록 캐시 (공유 피드 조회마다 friendService 를 호출하지 않도록)
+ * 친구 수락/삭제는 FriendshipEvent 로 바로 지우고, 이벤트를 놓친 경우를 대비해 expire-minutes 후 만료된다.
+ */
+@Component
+public class FriendIdCache {
+
+    private final LoadingCache<Long, List<Long>> friendIds;
+
+    public FriendIdCache(FriendClient friendClient,
+                         @Value("${calendar.friend-cache.max-size:50000}") long maxSize,
+                         @Value("${calendar.friend-cache.expire-minutes:30}") long expireMinutes) {
+        this.friendIds = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofMinutes(expireMinutes))
+                .build(userIdx -> List.copyOf(friendClient.getFriendIds(userIdx)));
+    }
+
+    public List<Long> getFriendIds(Long userIdx) {
+        return friendIds.get(userIdx);
+    }
+
+    public void invalidate(Long userIdx, Long friendIdx) {
+        friendIds.invalidateAll(List.of(userIdx, friendIdx));
+    }
+}
@@ -5,10 +5,9 @@ import com.example.calendarservice.dto.request.*;
 import com.example.calendarservice.dto.response.CommentsResponseAllDto;
 import com.example.calendarservice.dto.response.CommentsResponseInsertDto;
 import com.example.calendarservice.dto.response.SharedContentDto;
-import com.example.calendarservice.dto.response.UserSearchResponseDto;
 import com.example.calendarservice.entity.*;
-import com.example.calendarservice.feign.FriendClient;
 import com.example.calendarservice.feign.UserClient;
+import com.example.calendarservice.feign.UserProfileDto;
 import com.example.calendarservice.repository.CommentsRepository;
 import com.example.calendarservice.repository.DiaryRepository;
 import com.example.calendarservice.repository.ScheduleRepository;
@@ -19,8 +18,10 @@ import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -30,7 +31,7 @@ import java.util.stream.Stream;
 public class SharedServiceImpl implements SharedService{
 
     private final SharedRepository sharedRepository;
-    private final FriendClient friendClient;
+    private final FriendIdCache friendIdCache;
     private final ScheduleRepository scheduleRepository;
     private final DiaryRepository diaryRepository;
     private final CommentsRepository commentsRepository;
@@ -112,9 +113,7 @@ public class SharedServiceImpl implements SharedService{
     @Transactional
     public List<SharedContentDto> findAllShared(Long userIdx){
 
-        List<Long> friendIds = friendClient.getFriendsList(userIdx).stream()
-                .map(UserSearchResponseDto::getUserId)
-                .collect(Collectors.toList());
+        List<Long> friendIds = friendIdCache.getFriendIds(userIdx);
 
         List<Shared> allSharedDiaries = sharedRepository.findAllSharedWithAllAndFriendsDiaries(friendIds);
         List<Shared> allSharedSchedules = sharedRepository.findAllSharedWithAllAndFriendsSchedules(friendIds);
@@ -144,7 +143,6 @@ public class SharedServiceImpl implements SharedService{
                                         .end(schedule.getEnd())
                                         .location(schedule.getLocation())
                                         .authorIdx(schedule.getCalendars().getUserIdx())
-                                        .author(userClient.getUserName(schedule.getCalendars().getUserIdx()))
                                         .repeatType(schedule.getRepeatType())
                                         .repeatEndDate(schedule.getRepeatEndDate())
                                         .scheduleImages(imageUrls)
@@ -165,7 +163,6 @@ public class SharedServiceImpl implements SharedService{
                                         .title(diary.getTitle())
                                         .content(diary.getContent())
                                         .authorIdx(diary.getCalendars().getUserIdx())
-                                        .author(userClient.getUserName(diary.getCalendars().getUserIdx()))
                                         .date(diary.getDate())
                                         .category(diary.getCategory().name())
                                         .diaryImages(imageUrls)
@@ -179,6 +176,7 @@ public class SharedServiceImpl implements SharedService{
                 .sorted(Comparator.comparing(SharedContentDto::getShareDate).reversed())
                 .collect(Collectors.toList());
 
+        fillAuthors(result);
         return result;
     }
 
@@ -210,7 +208,7 @@ public class SharedServiceImpl implements SharedService{
                     .start(schedule.getStart())
                     .end(schedule.getEnd())
                     .authorIdx(schedule.getCalendars().getUserIdx())
-                    .author(userClient.getUserName(schedule.getCalendars().getUserIdx()))
+                    .author(authorName(schedule.getCalendars().getUserIdx()))
                     .location(schedule.getLocation())
                     .repeatType(schedule.getRepeatType())
                     .repeatEndDate(schedule.getRepeatEndDate())
@@ -235,7 +233,7 @@ public class SharedServiceImpl implements SharedService{
                     .title(diary.getTitle())
                     .content(diary.getContent())
                     .authorIdx(diary.getCalendars().getUserIdx())
-                    .author(userClient.getUserName(diary.getCalendars().getUserIdx()))
+                    .author(authorName(diary.getCalendars().getUserIdx()))
                     .date(diary.getDate())
                     .category(diary.getCategory().name())
                     .diaryImages(imageUrls)
@@ -316,7 +314,7 @@ public class SharedServiceImpl implements SharedService{
         List<Shared> allSchedules = sharedRepository.findSharedSchedulesByUser(userIdx);
         List<Shared> allDiaries = sharedRepository.findSharedDiariesByUser(userIdx);
 
-        return Stream.concat(
+        List<SharedContentDto> result = Stream.concat(
                         allSchedules.stream().map(shared -> {
                             Schedule schedule = scheduleRepository.findById(shared.getScheduleIdx()).orElse(null);
 
@@ -334,7 +332,6 @@ public class SharedServiceImpl implements SharedService{
                                     .start(schedule.getStart())
                                     .end(schedule.getEnd())
                                     .authorIdx(schedule.getCalendars().getUserIdx())
-                                    .author(userClient.getUserName(schedule.getCalendars().getUserIdx()))
                                     .location(schedule.getLocation())
                                     .scheduleImages(imageUrls)
                                     .build();
@@ -355,13 +352,15 @@ public class SharedServiceImpl implements SharedService{
                                     .shareDate(shared.getShareDateTime())
                                     .date(diary.getDate())
                                     .authorIdx(diary.getCalendars().getUserIdx())
-                                    .author(userClient.getUserName(diary.getCalendars().getUserIdx()))
                                     .category(diary.getCategory().name())
                                     .diaryImages(imageUrls)
                                     .build();
                         })
                 ).sorted(Comparator.comparing(SharedContentDto::getShareDate).reversed())
                 .collect(Collectors.toList());
+
+        fillAuthors(result);
+        return result;
     }
 
 
@@ -385,7 +384,7 @@ public class SharedServiceImpl implements SharedService{
 
         return CommentsResponseInsertDto.builder()
                 .commentsIdx(savedComments.getCommentsIdx())
-                .comAuthor(userClient.getUserName(savedComments.getUserIdx()))
+                .comAuthor(authorName(savedComments.getUserIdx()))
                 .build();
     }
 
@@ -410,7 +409,6 @@ public class SharedServiceImpl implements SharedService{
                                 .diaryIdx(comment.getDiaryIdx())
                                 .dateTime(comment.getDateTime())
                                 .content(comment.getContent())
-                                .comAuthor(userClient.getUserName(comment.getUserIdx()))
                                 .build())
                         .toList());
             }
@@ -428,11 +426,14 @@ public class SharedServiceImpl implements SharedService{
                                 .diaryIdx(comment.getDiaryIdx())
                                 .dateTime(comment.getDateTime())
                                 .content(comment.getContent())
-                                .comAuthor(userClient.getUserName(comment.getUserIdx()))
                                 .build())
                         .toList());
             }
         }
+
+        // 작성자 이름은 한 번에 조회
+        Map<Long, String> authorNames = authorNames(commentsList.stream().map(CommentsResponseAllDto::getUserIdx).toList());
+        commentsList.forEach(comment -> comment.setComAuthor(authorNames.get(comment.getUserIdx())));
         return commentsList;
     }
 
@@ -533,4 +534,23 @@ public class SharedServiceImpl implements SharedService{
             }
         }
     }
+
+    // 작성자 이름 채우기 (userService 프로필 일괄 조회 한 번)
+    private void fillAuthors(List<SharedContentDto> contents) {
+        Map<Long, String> authorNames = authorNames(contents.stream().map(SharedContentDto::getAuthorIdx).toList());
+        contents.forEach(content -> content.setAuthor(authorNames.get(content.getAuthorIdx())));
+    }
+
+    private String authorName(Long userIdx) {
+        return authorNames(List.of(userIdx)).get(userIdx);
+    }
+
+    private Map<Long, String> authorNames(Collection<Long> userIdxs) {
+        List<Long> distinctIdxs = userIdxs.stream().filter(Objects::nonNull).distinct().toList();
+        if (distinctIdxs.isEmpty()) {
+            return Map.of();
+        }
+        return userClient.getUserProfiles(distinctIdxs).stream()
+                .collect(Collectors.toMap(UserProfileDto::getId, UserProfileDto::getUserName, (a, b) -> a));
+    }
 }
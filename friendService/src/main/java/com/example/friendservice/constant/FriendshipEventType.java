@@ -0,0 +1,7 @@
+package com.example.friendservice.constant;
+
+// 다른 서비스로 전달되는 친구 관계 변경 종류 (Kafka)
+public enum FriendshipEventType {
+    ACCEPTED,
+    DELETED
+}
@@ -0,0 +1,6 @@
+package com.example.friendservice.constant;
+
+// notificationService 의 NotificationType 과 이름을 맞춰야 함
+public enum NotificationType {
+    FRIEND_REQUEST, FRIEND_ACCEPT
+}
@@ -1,9 +1,14 @@
 package com.example.friendservice.controller;
 
+import com.example.authcommon.AuthAttributes;
 import com.example.friendservice.dto.request.AcceptFriendRequestDto;
 import com.example.friendservice.dto.request.FriendRequestDto;
+import com.example.friendservice.dto.response.FriendSuggestionResponseDto;
 import com.example.friendservice.dto.response.UserSearchResponseDto;
+import com.example.friendservice.exception.commonException.error.UnauthorizedAccessException;
 import com.example.friendservice.service.FriendService;
+import com.example.friendservice.service.FriendSuggestionService;
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -18,10 +23,13 @@ import java.util.Map;
 public class FriendController {
 
     private final FriendService friendService;
+    private final FriendSuggestionService friendSuggestionService;
 
     // 친구 요청 보내기
     @PostMapping("/request")
-    public ResponseEntity<Map<String, String>> sendFriendRequest(@RequestBody FriendRequestDto friendRequestDto) {
+    public ResponseEntity<Map<String, String>> sendFriendRequest(@RequestBody FriendRequestDto friendRequestDto,
+                                                                 HttpServletRequest request) {
+        checkCaller(request, friendRequestDto.getUserId());
         friendService.sendFriendRequest(friendRequestDto);
         Map<String, String> response = new HashMap<>();
         response.put("message", "Friend request sent successfully.");
@@ -30,42 +38,69 @@ public class FriendController {
 
     // 친구 요청 조회
     @GetMapping("/{idx}/requests")
-    public ResponseEntity<List<UserSearchResponseDto>> getFriendRequests(@PathVariable(name = "idx") Long userId) {
+    public ResponseEntity<List<UserSearchResponseDto>> getFriendRequests(@PathVariable(name = "idx") Long userId,
+                                                                         HttpServletRequest request) {
+        checkCaller(request, userId);
         List<UserSearchResponseDto> friendRequests = friendService.getFriendRequests(userId);
 
         return ResponseEntity.ok(friendRequests);
     }
 
-    // 친구 요청 수락
+    // 친구 요청 수락 (요청을 받은 사람만)
     @PostMapping("/accept")
-    public ResponseEntity<String> acceptFriendRequest(@RequestBody AcceptFriendRequestDto acceptFriendRequestDto){
+    public ResponseEntity<String> acceptFriendRequest(@RequestBody AcceptFriendRequestDto acceptFriendRequestDto,
+                                                      HttpServletRequest request) {
         Long requesterId = acceptFriendRequestDto.getRequesterId();
         Long receiverId = acceptFriendRequestDto.getReceiverId();
+        checkCaller(request, receiverId);
 
         friendService.acceptFriendRequest(requesterId, receiverId);
         return ResponseEntity.ok("Friend request accepted.");
     }
 
-    // 친구 요청 거절
+    // 친구 요청 거절 (요청 id 만 받으므로 토큰 주인이 받은 요청인지 확인)
     @PostMapping("/reject/{rejectedRequestId}")
-    public ResponseEntity<String> rejectFriendRequest(@PathVariable(name = "rejectedRequestId") Long friendRequestId) {
-        friendService.rejectFriendRequest(friendRequestId);
+    public ResponseEntity<String> rejectFriendRequest(@PathVariable(name = "rejectedRequestId") Long friendRequestId,
+                                                      HttpServletRequest request) {
+        Long receiverId = AuthAttributes.getUserId(request).orElseThrow(UnauthorizedAccessException::new);
+        friendService.rejectFriendRequest(friendRequestId, receiverId);
         return ResponseEntity.ok("Friend request rejected.");
     }
 
     // 친구 목록 조회
     @GetMapping("/{idx}/list")
-    public List<UserSearchResponseDto> getFriendsList(@PathVariable(name = "idx") Long userId) {
+    public List<UserSearchResponseDto> getFriendsList(@PathVariable(name = "idx") Long userId, HttpServletRequest request) {
+        checkCaller(request, userId);
         List<UserSearchResponseDto> friends = friendService.getFriendsList(userId);
         return friends;
     }
 
+    // 친구 id 목록 조회 (calendarService 등 다른 서비스용)
+    @GetMapping("/{idx}/ids")
+    public List<Long> getFriendIds(@PathVariable(name = "idx") Long userId, HttpServletRequest request) {
+        checkCaller(request, userId);
+        return friendService.getFriendIds(userId);
+    }
+
+    // 알 수도 있는 친구 (미리 계산된 추천)
+    @GetMapping("/{idx}/suggestions")
+    public ResponseEntity<List<FriendSuggestionResponseDto>> getSuggestions(@PathVariable(name = "idx") Long userId,
+                                                                            @RequestParam(name = "size", defaultValue = "20") int size,
+                                                                            HttpServletRequest request) {
+        checkCaller(request, userId);
+        return ResponseEntity.ok(friendSuggestionService.getSuggestions(userId, size));
+    }
+
 
     // 유저 검색
     @GetMapping("/search")
     public ResponseEntity<List<UserSearchResponseDto>> searchUsers(@RequestParam(name = "userId") Long userId,
-                                                                   @RequestParam(name = "userName") String userName) {
-        List<UserSearchResponseDto> users = friendService.searchUsersByUserName(userId, userName);
+                                                                   @RequestParam(name = "userName") String userName,
+                                                                   @RequestParam(name = "page", defaultValue = "0") int page,
+                                                                   @RequestParam(name = "size", defaultValue = "20") int size,
+                                                                   HttpServletRequest request) {
+        checkCaller(request, userId);
+        List<UserSearchResponseDto> users = friendService.searchUsersByUserName(userId, userName, page, size);
         return ResponseEntity.ok(users);
     }
 
@@ -73,9 +108,17 @@ public class FriendController {
     // 친구 삭제
     @DeleteMapping("/delete")
     public ResponseEntity<String> deleteFriend(@RequestParam(name = "userId") Long userId,
-                                               @RequestParam(name = "friendId") Long deleteFriendId) {
+                                               @RequestParam(name = "friendId") Long deleteFriendId,
+                                               HttpServletRequest request) {
+        checkCaller(request, userId);
         friendService.deleteFriend(userId, deleteFriendId);
         return ResponseEntity.ok("Friend deleted.");
     }
 
+    // 토큰 주인의 요청만 허용 (다른 서비스의 Feign 호출은 내부 인증 헤더로 통과)
+    private static void checkCaller(HttpServletRequest request, Long userId) {
+        if (!AuthAttributes.isCallerOrInternal(request, userId)) {
+            throw new UnauthorizedAccessException();
+        }
+    }
 }
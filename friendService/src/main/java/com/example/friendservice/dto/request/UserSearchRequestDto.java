@@ -0,0 +1,19 @@
+package com.example.friendservice.dto.request;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+// userService 닉네임 검색 요청 (excludedIds: 친구 + 본인)
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserSearchRequestDto {
+
+    private String userName;
+    private List<Long> excludedIds;
+    private int page;
+    private int size;
+}
@@ -0,0 +1,18 @@
+package com.example.friendservice.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class FriendSuggestionResponseDto {
+
+    private Long userId;
+    private String userName;
+    private String profileImageUrl;
+    private int mutualFriendCount;
+}
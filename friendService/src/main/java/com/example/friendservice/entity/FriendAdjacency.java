@@ -0,0 +1,37 @@
+package com.example.friendservice.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import java.time.LocalDateTime;
+
+// 수락된 친구 관계를 양방향 두 행으로 저장 (user_idx 기준 한 번의 인덱스 조회로 친구 목록/친구 여부 확인)
+@Entity
+@Getter
+@EntityListeners(AuditingEntityListener.class)
+@Table(
+        name = "friend_adjacency",
+        uniqueConstraints = @UniqueConstraint(name = "uk_friend_adjacency_user_friend", columnNames = {"user_idx", "friend_idx"})
+)
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class FriendAdjacency {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "fa_idx")
+    private Long idx;
+
+    @Column(name = "user_idx", nullable = false)
+    private Long userId;
+
+    @Column(name = "friend_idx", nullable = false)
+    private Long friendId;
+
+    @CreatedDate
+    @Column(name = "fa_created_at", updatable = false)
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,39 @@
+package com.example.friendservice.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+// 알 수도 있는 친구 (배치 작업이 미리 계산해 둔 사용자별 상위 K 명, 함께 아는 친구 수 순)
+@Entity
+@Getter
+@Table(
+        name = "friend_suggestion",
+        indexes = @Index(name = "idx_friend_suggestion_user_rank", columnList = "user_idx, fs_rank")
+)
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class FriendSuggestion {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "fs_idx")
+    private Long idx;
+
+    @Column(name = "user_idx", nullable = false)
+    private Long userId;
+
+    @Column(name = "suggested_idx", nullable = false)
+    private Long suggestedUserId;
+
+    @Column(name = "fs_mutual_count", nullable = false)
+    private int mutualCount;
+
+    @Column(name = "fs_rank", nullable = false)
+    private int rank;
+
+    @Column(name = "fs_computed_at", nullable = false)
+    private LocalDateTime computedAt;
+}
@@ -0,0 +1,50 @@
+package com.example.friendservice.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import java.time.LocalDateTime;
+
+// 트랜잭셔널 아웃박스: 비즈니스 데이터와 같은 트랜잭션에 저장 후 OutboxService 가 Kafka 로 발행
+@Entity
+@Getter
+@Setter
+@EntityListeners(AuditingEntityListener.class)
+@Table(
+        name = "outbox_event",
+        indexes = @Index(name = "idx_outbox_published", columnList = "o_published, o_idx")
+)
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class OutboxEvent {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "o_idx")
+    private Long idx;
+
+    @Column(name = "o_event_id", nullable = false, unique = true, length = 36)
+    private String eventId;
+
+    @Column(name = "o_topic", nullable = false)
+    private String topic;
+
+    @Column(name = "o_key")
+    private String eventKey;
+
+    @Column(name = "o_payload", nullable = false, columnDefinition = "TEXT")
+    private String payload;
+
+    @Column(name = "o_published", nullable = false)
+    private boolean published;
+
+    @CreatedDate
+    @Column(name = "o_created_at", updatable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "o_published_at")
+    private LocalDateTime publishedAt;
+}
@@ -0,0 +1,26 @@
+package com.example.friendservice.event;
+
+import com.example.friendservice.constant.FriendshipEventType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+// 친구 관계 변경 이벤트 (Kafka, messageService 대화 정리 / 각 서비스 친구 목록 캐시 갱신)
+// occurredAt 은 messageService 가 대화를 어디까지 지울지 정하는 기준이다.
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class FriendshipEvent {
+
+    private String eventId;
+    private FriendshipEventType eventType;
+
+    private Long userId;
+    private Long friendId;
+
+    private LocalDateTime occurredAt;
+}
@@ -0,0 +1,31 @@
+package com.example.friendservice.event;
+
+import com.example.friendservice.service.FriendGraphCache;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.stereotype.Component;
+
+// 다른 인스턴스에서 수락/삭제된 친구 관계의 캐시 항목 제거 (인스턴스마다 다른 group 으로 모두 받음)
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class FriendshipEventConsumer {
+
+    private final FriendGraphCache friendGraphCache;
+    private final ObjectMapper objectMapper;
+
+    @KafkaListener(topics = "${topics.friendship}",
+            groupId = "${spring.application.name}-friend-cache-${friend.instance-id}",
+            properties = "auto.offset.reset=latest")
+    public void consume(String payload) {
+        try {
+            FriendshipEvent event = objectMapper.readValue(payload, FriendshipEvent.class);
+            friendGraphCache.invalidate(event.getUserId(), event.getFriendId());
+        } catch (JsonProcessingException e) {
+            log.error("Skipping malformed friendship event: {}", payload, e);
+        }
+    }
+}
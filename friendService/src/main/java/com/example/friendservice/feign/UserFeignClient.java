@@ -1,24 +1,23 @@
 package com.example.friendservice.feign;
 
+import com.example.authcommon.InternalAuthFeignConfiguration;
+import com.example.friendservice.dto.request.UserSearchRequestDto;
 import com.example.friendservice.dto.response.UserSearchResponseDto;
 import org.springframework.cloud.openfeign.FeignClient;
-import org.springframework.web.bind.annotation.GetMapping;
-import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 
 import java.util.List;
 
-@FeignClient(name = "user-service", url = "${users-service-url}")
+@FeignClient(name = "user-service", url = "${users-service-url}", configuration = InternalAuthFeignConfiguration.class)
 public interface UserFeignClient {
 
-    // 친구 아닌 유저 검색
-    @GetMapping("/user-service/search")
-    List<UserSearchResponseDto> searchUsers(@RequestParam String userName, @RequestParam List<Long> friendIds);
+    // 친구 아닌 유저 검색 (제외 목록은 body 로 전달)
+    @PostMapping("/user-service/search")
+    List<UserSearchResponseDto> searchUsers(@RequestBody UserSearchRequestDto userSearchRequestDto);
 
-    // 친구 요청 목록 조회
-    @GetMapping("/user-service/request")
-    List<UserSearchResponseDto> friendRequestList(@RequestParam List<Long> friendId);
-
-    @GetMapping("/user-service/friends")
-    List<UserSearchResponseDto> getFriendsList(@RequestParam List<Long> friendsId);
+    // 여러 사용자 프로필 한 번에 조회 (친구 목록, 받은 요청, 추천)
+    @PostMapping("/user-service/profiles")
+    List<UserProfileDto> getUserProfiles(@RequestBody List<Long> userIds);
 
 }
@@ -0,0 +1,17 @@
+package com.example.friendservice.feign;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// userService 프로필 일괄 조회 응답 (id, 닉네임, 프로필 이미지)
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class UserProfileDto {
+    private Long id;
+    private String userName;
+    private String profileImageUrl;
+}
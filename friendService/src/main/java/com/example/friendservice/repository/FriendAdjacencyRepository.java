@@ -0,0 +1,36 @@
+package com.example.friendservice.repository;
+
+import com.example.friendservice.entity.FriendAdjacency;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+public interface FriendAdjacencyRepository extends JpaRepository<FriendAdjacency, Long> {
+
+    // 친구 id 목록 (정렬된 상태로 캐시에 올림)
+    @Query("SELECT a.friendId FROM FriendAdjacency a WHERE a.userId = :userId ORDER BY a.friendId")
+    List<Long> findFriendIds(@Param("userId") Long userId);
+
+    // 친구 수락 시 양방향 두 행 추가 (이미 있으면 무시)
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO friend_adjacency (user_idx, friend_idx, fa_created_at) " +
+            "VALUES (:userId, :friendId, NOW()), (:friendId, :userId, NOW())", nativeQuery = true)
+    int insertPair(@Param("userId") Long userId, @Param("friendId") Long friendId);
+
+    // 친구 삭제 시 양방향 두 행 삭제
+    @Modifying
+    @Query("DELETE FROM FriendAdjacency a WHERE (a.userId = :userId AND a.friendId = :friendId) " +
+            "OR (a.userId = :friendId AND a.friendId = :userId)")
+    int deletePair(@Param("userId") Long userId, @Param("friendId") Long friendId);
+
+    // friend_adjacency 도입 전 수락된 friends 행으로 채우기
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO friend_adjacency (user_idx, friend_idx, fa_created_at) " +
+            "SELECT req_idx, rec_idx, NOW() FROM friends WHERE f_status = 'ACCEPTED' " +
+            "UNION ALL " +
+            "SELECT rec_idx, req_idx, NOW() FROM friends WHERE f_status = 'ACCEPTED'", nativeQuery = true)
+    int backfill();
+}
@@ -16,13 +16,24 @@ public interface FriendRepository extends JpaRepository<Friend, Long> {
 
     boolean existsByRequesterIdAndReceiverId(Long requesterId, Long receiverId);
 
+    // 두 유저 간 요청/친구 관계가 있는지 (방향 무관, 중복 요청 방지)
+    @Query("SELECT COUNT(f) > 0 FROM Friend f WHERE (f.requesterId = :userId AND f.receiverId = :otherUserId) " +
+            "OR (f.requesterId = :otherUserId AND f.receiverId = :userId)")
+    boolean existsBetween(@Param("userId") Long userId, @Param("otherUserId") Long otherUserId);
+
     // 두 유저 간의 친구 상태 조회 (중복 요청 방지)
     Optional<Friend> findByRequesterIdAndReceiverId(Long requesterId, Long receiverId);
 
+    // 거절은 받은 사람만 가능
+    Optional<Friend> findByIdxAndReceiverId(Long idx, Long receiverId);
+
     //친구 검색 관련
     @Query("SELECT f FROM Friend f WHERE (f.requesterId = :userId OR f.receiverId = :userId) AND f.status = 'ACCEPTED'")
     List<Friend> findFriendsByUser(@Param("userId") Long userId);
 
+    // friend_adjacency 초기 채우기가 끝났는지 확인용
+    long countByStatus(Status status);
+
     // 친구 삭제
     void deleteByRequesterIdAndReceiverId(Long requesterId, Long receiverId);
 }
@@ -0,0 +1,110 @@
+package com.example.friendservice.repository;
+
+import jakarta.transaction.Transactional;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+// 추천 배치 작업용: 인접 목록 전체 스트리밍 조회 + 사용자 묶음 단위 결과 교체
+@Repository
+@RequiredArgsConstructor
+public class FriendSuggestionJdbcRepository {
+
+    private static final String INSERT_PREFIX = "INSERT INTO friend_suggestion " +
+            "(user_idx, suggested_idx, fs_mutual_count, fs_rank, fs_computed_at) VALUES ";
+    private static final String ROW_PLACEHOLDER = "(?, ?, ?, ?, ?)";
+    private static final int INSERT_CHUNK_SIZE = 1000;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * friend_adjacency 전체를 (user_idx, friend_idx) 순서로 한 행씩 전달
+     * MariaDB 드라이버는 fetchSize 가 있으면 결과를 나눠 받으므로 전체 결과를 메모리에 올리지 않는다.
+     */
+    public void scanAdjacency(EdgeHandler handler) {
+        jdbcTemplate.query(con -> {
+            var statement = con.prepareStatement(
+                    "SELECT user_idx, friend_idx FROM friend_adjacency ORDER BY user_idx, friend_idx");
+            statement.setFetchSize(10_000);
+            return statement;
+        }, (RowCallbackHandler) rs -> handler.accept(rs.getLong(1), rs.getLong(2)));
+    }
+
+    // 사용자 묶음의 이전 추천을 지우고 새 결과 저장 (한 트랜잭션, 읽는 쪽은 이전/새 결과 중 하나만 봄)
+    @Transactional
+    public void replace(List<Long> userIds, List<SuggestionRow> rows, LocalDateTime computedAt) {
+        if (userIds.isEmpty()) {
+            return;
+        }
+        String placeholders = String.join(", ", Collections.nCopies(userIds.size(), "?"));
+        jdbcTemplate.update("DELETE FROM friend_suggestion WHERE user_idx IN (" + placeholders + ")", userIds.toArray());
+
+        Timestamp timestamp = Timestamp.valueOf(computedAt);
+        for (int from = 0; from < rows.size(); from += INSERT_CHUNK_SIZE) {
+            List<SuggestionRow> chunk = rows.subList(from, Math.min(from + INSERT_CHUNK_SIZE, rows.size()));
+            StringBuilder sql = new StringBuilder(INSERT_PREFIX);
+            List<Object> args = new ArrayList<>(chunk.size() * 5);
+            for (int i = 0; i < chunk.size(); i++) {
+                SuggestionRow row = chunk.get(i);
+                sql.append(i == 0 ? "" : ", ").append(ROW_PLACEHOLDER);
+                args.add(row.userId());
+                args.add(row.suggestedUserId());
+                args.add(row.mutualCount());
+                args.add(row.rank());
+                args.add(timestamp);
+            }
+            jdbcTemplate.update(sql.toString(), args.toArray());
+        }
+    }
+
+    /**
+     * 여러 인스턴스 중 한 곳에서만 작업을 실행 (MariaDB GET_LOCK, 이미 잡혀 있으면 바로 false)
+     * 이름 잠금은 연결에 묶이므로 잠금을 잡은 연결을 작업이 끝날 때까지 들고 있다가 풀어 준다.
+     * 인스턴스가 죽어 연결이 끊기면 잠금도 풀린다.
+     */
+    public boolean runExclusively(String lockName, Runnable job) {
+        Boolean ran = jdbcTemplate.execute((ConnectionCallback<Boolean>) con -> {
+            try (PreparedStatement lock = con.prepareStatement("SELECT GET_LOCK(?, 0)")) {
+                lock.setString(1, lockName);
+                try (ResultSet rs = lock.executeQuery()) {
+                    if (!rs.next() || rs.getInt(1) != 1) {
+                        return false;
+                    }
+                }
+            }
+            try {
+                job.run();
+                return true;
+            } finally {
+                try (PreparedStatement release = con.prepareStatement("SELECT RELEASE_LOCK(?)")) {
+                    release.setString(1, lockName);
+                    release.execute();
+                }
+            }
+        });
+        return Boolean.TRUE.equals(ran);
+    }
+
+    // 이번 작업에서 다시 계산되지 않은 사용자(친구가 모두 사라진 경우 등)의 이전 추천 정리
+    public int deleteComputedBefore(LocalDateTime computedAt) {
+        return jdbcTemplate.update("DELETE FROM friend_suggestion WHERE fs_computed_at < ?", Timestamp.valueOf(computedAt));
+    }
+
+    @FunctionalInterface
+    public interface EdgeHandler {
+        void accept(long userId, long friendId);
+    }
+
+    public record SuggestionRow(long userId, long suggestedUserId, int mutualCount, int rank) {
+    }
+}
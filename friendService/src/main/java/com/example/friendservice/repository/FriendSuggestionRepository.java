@@ -0,0 +1,12 @@
+package com.example.friendservice.repository;
+
+import com.example.friendservice.entity.FriendSuggestion;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.List;
+
+public interface FriendSuggestionRepository extends JpaRepository<FriendSuggestion, Long> {
+
+    List<FriendSuggestion> findByUserIdOrderByRankAsc(Long userId, Pageable pageable);
+}
@@ -0,0 +1,23 @@
+package com.example.friendservice.repository;
+
+import com.example.friendservice.entity.OutboxEvent;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.jpa.repository.*;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+
+    // 미발행 이벤트 조회 (여러 Pod 가 동시에 발행하지 않도록 SKIP LOCKED)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    List<OutboxEvent> findTop100ByPublishedFalseOrderByIdxAsc();
+
+    // 발행 완료된 오래된 이벤트 정리
+    @Modifying
+    @Query("DELETE FROM OutboxEvent o WHERE o.published = true AND o.publishedAt < :before")
+    int deletePublishedBefore(@Param("before") LocalDateTime before);
+}
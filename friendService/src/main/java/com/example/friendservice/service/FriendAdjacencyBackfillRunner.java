@@ -0,0 +1,41 @@
+package com.example.friendservice.service;
+
+import com.example.friendservice.constant.Status;
+import com.example.friendservice.repository.FriendAdjacencyRepository;
+import com.example.friendservice.repository.FriendRepository;
+import jakarta.transaction.Transactional;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * friend_adjacency 테이블 도입 전 수락된 친구 관계 채우기
+ * 친구 목록은 friend_adjacency 만 읽으므로 배포 시 기본으로 실행한다. 수락된 friends 행마다 두 행이 있어야 하므로
+ * 그보다 적을 때만 채우고, INSERT IGNORE 라 여러 인스턴스가 동시에 실행해도 된다.
+ * ApplicationRunner 가 끝나야 readiness 가 ACCEPTING_TRAFFIC 이 되므로 채우는 동안 요청을 받지 않는다.
+ */
+@Component
+@ConditionalOnProperty(name = "friend.adjacency-backfill.enabled", havingValue = "true", matchIfMissing = true)
+@RequiredArgsConstructor
+@Slf4j
+public class FriendAdjacencyBackfillRunner implements ApplicationRunner {
+
+    private final FriendAdjacencyRepository friendAdjacencyRepository;
+    private final FriendRepository friendRepository;
+
+    @Transactional
+    @Override
+    public void run(ApplicationArguments args) {
+        long expected = friendRepository.countByStatus(Status.ACCEPTED) * 2;
+        long existing = friendAdjacencyRepository.count();
+        if (existing >= expected) {
+            log.info("Friend adjacency already filled: rows={}", existing);
+            return;
+        }
+        int inserted = friendAdjacencyRepository.backfill();
+        log.info("Friend adjacency backfill finished: inserted={}", inserted);
+    }
+}
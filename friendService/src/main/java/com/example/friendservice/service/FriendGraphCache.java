@@ -0,0 +1,78 @@
+package com.example.friendservice.service;
+
+import com.example.friendservice.repository.FriendAdjacencyRepository;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 사용자별 친구 id 목록 캐시 (정렬된 long[] 로 보관해 박싱 없이 적은 메모리 사용)
+ * 친구 여부는 이진 탐색으로 확인한다. 수락/삭제 시 커밋 후 두 사용자 항목을 지우고,
+ * 다른 인스턴스는 FriendshipEvent 를 받아 지운다.
+ */
+@Component
+public class FriendGraphCache {
+
+    private static final long[] EMPTY = new long[0];
+
+    private final FriendAdjacencyRepository friendAdjacencyRepository;
+    private final LoadingCache<Long, long[]> friendIds;
+
+    public FriendGraphCache(FriendAdjacencyRepository friendAdjacencyRepository,
+                            @Value("${friend.graph-cache.max-size:50000}") long maxSize,
+                            @Value("${friend.graph-cache.expire-minutes:30}") long expireMinutes) {
+        this.friendAdjacencyRepository = friendAdjacencyRepository;
+        this.friendIds = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofMinutes(expireMinutes))
+                .build(this::load);
+    }
+
+    // 정렬된 친구 id 배열 (호출한 쪽에서 수정하지 말 것)
+    public long[] getFriendIds(Long userId) {
+        return friendIds.get(userId);
+    }
+
+    public List<Long> getFriendIdList(Long userId) {
+        return Arrays.stream(getFriendIds(userId)).boxed().toList();
+    }
+
+    public boolean areFriends(Long userId, Long otherUserId) {
+        return Arrays.binarySearch(getFriendIds(userId), otherUserId) >= 0;
+    }
+
+    // 다른 인스턴스에서 바뀐 친구 관계 (FriendshipEvent)
+    public void invalidate(Long userId, Long friendId) {
+        friendIds.invalidateAll(List.of(userId, friendId));
+    }
+
+    // 트랜잭션 안이면 커밋 후에 지움 (커밋 전에 지우면 다른 요청이 이전 상태를 다시 캐시할 수 있음)
+    public void invalidateAfterCommit(Long... userIds) {
+        List<Long> keys = Arrays.asList(userIds);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            friendIds.invalidateAll(keys);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                friendIds.invalidateAll(keys);
+            }
+        });
+    }
+
+    private long[] load(Long userId) {
+        List<Long> ids = friendAdjacencyRepository.findFriendIds(userId);
+        if (ids.isEmpty()) {
+            return EMPTY;
+        }
+        return ids.stream().mapToLong(Long::longValue).toArray();
+    }
+}
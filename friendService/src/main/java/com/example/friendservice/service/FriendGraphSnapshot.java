@@ -0,0 +1,61 @@
+package com.example.friendservice.service;
+
+import java.util.Arrays;
+
+/**
+ * 추천 배치용 친구 그래프 (CSR 형식)
+ * 사용자 id 를 0..n-1 번호로 바꾸고, i 번 사용자의 친구 번호는 neighbors[offsets[i] .. offsets[i+1]) 에 정렬되어 있다.
+ * 간선 100만 개 기준 int/long 배열 몇 개(수십 MB)로 끝나 객체 그래프보다 훨씬 작다.
+ */
+final class FriendGraphSnapshot {
+
+    final long[] userIds;
+    final int[] offsets;
+    final int[] neighbors;
+
+    private FriendGraphSnapshot(long[] userIds, int[] offsets, int[] neighbors) {
+        this.userIds = userIds;
+        this.offsets = offsets;
+        this.neighbors = neighbors;
+    }
+
+    int size() {
+        return userIds.length;
+    }
+
+    int degree(int node) {
+        return offsets[node + 1] - offsets[node];
+    }
+
+    boolean areFriends(int node, int other) {
+        return Arrays.binarySearch(neighbors, offsets[node], offsets[node + 1], other) >= 0;
+    }
+
+    // (user, friend) 순으로 정렬된 간선으로 생성 (반대 방향 행이 없는 간선은 버림)
+    static FriendGraphSnapshot fromSortedEdges(long[] from, long[] to, int edgeCount) {
+        long[] ids = new long[edgeCount];
+        int n = 0;
+        for (int i = 0; i < edgeCount; i++) {
+            if (i == 0 || from[i] != from[i - 1]) {
+                ids[n++] = from[i];
+            }
+        }
+        ids = Arrays.copyOf(ids, n);
+
+        int[] offsets = new int[n + 1];
+        int[] neighbors = new int[edgeCount];
+        int m = 0;
+        int node = -1;
+        for (int i = 0; i < edgeCount; i++) {
+            if (i == 0 || from[i] != from[i - 1]) {
+                offsets[++node] = m;
+            }
+            int friend = Arrays.binarySearch(ids, to[i]);
+            if (friend >= 0) {
+                neighbors[m++] = friend;
+            }
+        }
+        offsets[n] = m;
+        return new FriendGraphSnapshot(ids, offsets, Arrays.copyOf(neighbors, m));
+    }
+}
@@ -14,11 +14,13 @@ public interface FriendService {
 
     void acceptFriendRequest(Long requesterId, Long receiverId);
 
-    void rejectFriendRequest(Long friendRequestId);
+    void rejectFriendRequest(Long friendRequestId, Long receiverId);
 
     List<UserSearchResponseDto> getFriendsList(Long userId);
 
-    List<UserSearchResponseDto> searchUsersByUserName(Long userId, String userName);
+    List<Long> getFriendIds(Long userId);
+
+    List<UserSearchResponseDto> searchUsersByUserName(Long userId, String userName, int page, int size);
 
     void deleteFriend(Long userId, Long deletedFriendId);
 }
@@ -1,43 +1,59 @@
 package com.example.friendservice.service;
 
+import com.example.friendservice.constant.FriendshipEventType;
+import com.example.friendservice.constant.NotificationType;
 import com.example.friendservice.constant.Status;
 import com.example.friendservice.dto.request.FriendRequestDto;
+import com.example.friendservice.dto.request.UserSearchRequestDto;
 import com.example.friendservice.dto.response.UserSearchResponseDto;
 import com.example.friendservice.entity.Friend;
-import com.example.friendservice.feign.MessageFeignClient;
-import com.example.friendservice.feign.NotiFeignClient;
+import com.example.friendservice.event.FriendshipEvent;
+import com.example.friendservice.event.NotificationEvent;
 import com.example.friendservice.feign.UserFeignClient;
+import com.example.friendservice.feign.UserProfileDto;
+import com.example.friendservice.repository.FriendAdjacencyRepository;
 import com.example.friendservice.repository.FriendRepository;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.UUID;
 import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
 public class FriendServiceImpl implements FriendService {
 
     private final FriendRepository friendRepository;
+    private final FriendAdjacencyRepository friendAdjacencyRepository;
+    private final FriendGraphCache friendGraphCache;
     private final UserFeignClient userFeignClient;
-    private final NotiFeignClient notiFeignClient;
-    private final MessageFeignClient messageFeignClient;
+    private final OutboxService outboxService;
+
+    @Value("${topics.notification}")
+    private String notificationTopic;
+
+    @Value("${topics.friendship}")
+    private String friendshipTopic;
+
+    @Value("${friend.user-lookup-chunk-size:200}")
+    private int userLookupChunkSize;
 
     //친구가 아닌 유저 검색
-    @Transactional
     @Override
-    public List<UserSearchResponseDto> searchUsersByUserName(Long userId, String userName) {
+    public List<UserSearchResponseDto> searchUsersByUserName(Long userId, String userName, int page, int size) {
         // 현재 친구인 사용자 ID 가져오기
-        List<Long> friendIds = friendRepository.findFriendsByUser(userId).stream()
-                .map(friend -> friend.getRequesterId().equals(userId) ? friend.getReceiverId() : friend.getRequesterId())
-                .collect(Collectors.toList());
+        List<Long> friendIds = new ArrayList<>(friendGraphCache.getFriendIdList(userId));
         friendIds.add(userId); // 자기 자신도 제외하기 위해 추가
 
-        return userFeignClient.searchUsers(userName, friendIds);
+        return userFeignClient.searchUsers(new UserSearchRequestDto(userName, friendIds, page, size));
     }
 
     // 친구 요청 보내기
@@ -51,9 +67,11 @@ public class FriendServiceImpl implements FriendService {
         if (userId.equals(friendId)) {
             throw new IllegalArgumentException("Cannot send an friend request to oneself.");
         }
-        // 중복 요청 방지 로직
-        if (friendRepository.existsByRequesterIdAndReceiverId(userId, friendId) ||
-                friendRepository.existsByRequesterIdAndReceiverId(friendId, userId)) {
+        // 중복 요청 방지 로직 (이미 친구면 캐시에서 바로 확인)
+        if (friendGraphCache.areFriends(userId, friendId)) {
+            throw new IllegalStateException("Already friends with this user.");
+        }
+        if (friendRepository.existsBetween(userId, friendId)) {
             throw new IllegalStateException("Already sent a friend request to this user.");
         }
 
@@ -65,7 +83,19 @@ public class FriendServiceImpl implements FriendService {
 
         friendRepository.save(friendRequest);
 
-        return notiFeignClient.friendRequest(friendName, userName);
+        // 알림은 아웃박스에 기록만 하고 커밋 후 비동기로 발행 (notificationService 지연과 무관하게 커밋)
+        String eventId = UUID.randomUUID().toString();
+        outboxService.append(notificationTopic, friendName, eventId, NotificationEvent.builder()
+                .eventId(eventId)
+                .notificationType(NotificationType.FRIEND_REQUEST)
+                .senderId(userId)
+                .senderName(userName)
+                .receiverId(friendId)
+                .receiverName(friendName)
+                .occurredAt(LocalDateTime.now())
+                .build());
+
+        return ResponseEntity.ok("Friend request sent successfully.");
     }
 
     //받은 친구 요청 목록 조회
@@ -77,12 +107,11 @@ public class FriendServiceImpl implements FriendService {
                 .map(friend -> friend.getRequesterId())
                 .collect(Collectors.toList());
 
-        List<UserSearchResponseDto> requesterInfo = userFeignClient.friendRequestList(requesterIds);
-
-        Map<Long, UserSearchResponseDto> requesterMap = requesterInfo.stream()
-                .collect(Collectors.toMap(UserSearchResponseDto::getUserId, dto -> dto));
+        Map<Long, UserSearchResponseDto> requesterMap = fetchUsersById(requesterIds);
 
+        // 탈퇴 등으로 프로필이 없는 요청자는 목록에서 제외 (한 명 때문에 전체 조회가 실패하지 않도록)
         return requesterIds.stream()
+                .filter(requesterMap::containsKey)
                 .map(requesterId -> {
                     UserSearchResponseDto dto = requesterMap.get(requesterId);
                     dto.setUserId(userId); // 내 ID 설정
@@ -102,53 +131,82 @@ public class FriendServiceImpl implements FriendService {
         friendRequest.setStatus(Status.ACCEPTED);
         friendRepository.save(friendRequest);
 
+        friendAdjacencyRepository.insertPair(requesterId, receiverId);
+        friendGraphCache.invalidateAfterCommit(requesterId, receiverId);
+
+        // 다른 인스턴스/서비스의 친구 목록 캐시 갱신용
+        String eventId = UUID.randomUUID().toString();
+        outboxService.append(friendshipTopic, pairKey(requesterId, receiverId), eventId, FriendshipEvent.builder()
+                .eventId(eventId)
+                .eventType(FriendshipEventType.ACCEPTED)
+                .userId(requesterId)
+                .friendId(receiverId)
+                .occurredAt(LocalDateTime.now())
+                .build());
+
     }
 
     // 친구 요청 거절
     @Transactional
     @Override
-    public void rejectFriendRequest(Long friendRequestId) {
-        Friend friendRequest = friendRepository.findById(friendRequestId)
+    public void rejectFriendRequest(Long friendRequestId, Long receiverId) {
+        // 다른 사람이 받은 요청은 없는 요청과 같게 처리
+        Friend friendRequest = friendRepository.findByIdxAndReceiverId(friendRequestId, receiverId)
                 .orElseThrow(() -> new IllegalArgumentException("Invalid friend request ID"));
         friendRepository.delete(friendRequest);
     }
 
+    // 친구 id 목록 조회 (다른 서비스 캐시용, 사용자 정보 조회 없음)
+    // 다른 서비스는 FriendshipEvent 를 받자마자 이 API 로 다시 읽으므로, 아직 이벤트를 못 받은
+    // 이 인스턴스의 캐시 대신 friend_adjacency 에서 바로 읽는다.
+    @Override
+    public List<Long> getFriendIds(Long userId) {
+        return friendAdjacencyRepository.findFriendIds(userId);
+    }
+
     // 친구 목록 조회
-    @Transactional
     @Override
     public List<UserSearchResponseDto> getFriendsList(Long userId) {
-        // 수신자가 userId인 친구 관계 조회
-        List<Friend> receivedFriends = friendRepository.findByReceiverIdAndStatus(userId, Status.ACCEPTED);
-
-        // 요청자가 userId인 친구 관계 조회
-        List<Friend> requestedFriends = friendRepository.findByRequesterIdAndStatus(userId, Status.ACCEPTED);
-
-        // 양쪽 관계 병합
-        List<Long> friendIds = Stream.concat(
-                        receivedFriends.stream().map(Friend::getRequesterId),
-                        requestedFriends.stream().map(Friend::getReceiverId)
-                )
-                .distinct()
-                .collect(Collectors.toList());
+        // 친구 id 는 인접 목록 캐시에서 조회
+        List<Long> friendIds = friendGraphCache.getFriendIdList(userId);
+        if (friendIds.isEmpty()) {
+            return List.of();
+        }
 
-        // 외부 서비스에서 사용자 정보 조회
-        List<UserSearchResponseDto> userDetails = userFeignClient.getFriendsList(friendIds);
+        // 외부 서비스에서 사용자 정보 조회 (id -> 사용자 정보 맵으로 한 번에 매칭)
+        Map<Long, UserSearchResponseDto> userDetails = fetchUsersById(friendIds);
 
         // 반환 DTO 생성
-        return friendIds.stream()
-                .map(friendId -> userDetails.stream()
-                        .filter(user -> user.getUserId().equals(friendId))
-                        .findFirst()
-                        .map(user -> new UserSearchResponseDto(
-                                user.getUserId(),
-                                friendId, // friendId 추가
-                                user.getUserName(),
-                                user.getProfileImageUrl(),
-                                user.getEmail()
-                        ))
-                        .orElseThrow(() -> new IllegalArgumentException("User data not found for friend ID: " + friendId))
-                )
-                .collect(Collectors.toList());
+        List<UserSearchResponseDto> friends = new ArrayList<>(friendIds.size());
+        for (Long friendId : friendIds) {
+            UserSearchResponseDto user = userDetails.get(friendId);
+            if (user == null) {
+                throw new IllegalArgumentException("User data not found for friend ID: " + friendId);
+            }
+            friends.add(new UserSearchResponseDto(
+                    user.getUserId(),
+                    friendId, // friendId 추가
+                    user.getUserName(),
+                    user.getProfileImageUrl(),
+                    user.getEmail()
+            ));
+        }
+        return friends;
+    }
+
+    // userService 프로필 일괄 조회를 id chunk 단위로 호출 (요청 하나의 크기 제한)
+    // 매칭은 Long 키 HashMap 으로 한 명당 시간이 10 ~ 10,000 명에서 거의 일정함 (FriendLookupJoinBenchmarkTest)
+    // Feign 왕복에 비하면 키 박싱 비용은 작아서 기본형 키 맵 의존성은 추가하지 않음
+    private Map<Long, UserSearchResponseDto> fetchUsersById(List<Long> userIds) {
+        Map<Long, UserSearchResponseDto> users = new HashMap<>(Math.max(16, userIds.size() * 4 / 3 + 1));
+        for (int from = 0; from < userIds.size(); from += userLookupChunkSize) {
+            List<Long> chunk = userIds.subList(from, Math.min(from + userLookupChunkSize, userIds.size()));
+            for (UserProfileDto profile : userFeignClient.getUserProfiles(chunk)) {
+                users.put(profile.getId(), new UserSearchResponseDto(
+                        profile.getId(), null, profile.getUserName(), profile.getProfileImageUrl(), null));
+            }
+        }
+        return users;
     }
 
 
@@ -159,8 +217,23 @@ public class FriendServiceImpl implements FriendService {
 
         friendRepository.deleteByRequesterIdAndReceiverId(userId, deletedFriendId);
         friendRepository.deleteByRequesterIdAndReceiverId(deletedFriendId, userId);
+        friendAdjacencyRepository.deletePair(userId, deletedFriendId);
+        friendGraphCache.invalidateAfterCommit(userId, deletedFriendId);
+
+        // 대화 삭제는 messageService 가 이벤트를 받아 비동기로 처리 (같은 두 사용자 이벤트는 같은 파티션으로)
+        // 친구 목록 캐시도 같은 이벤트로 갱신
+        String eventId = UUID.randomUUID().toString();
+        outboxService.append(friendshipTopic, pairKey(userId, deletedFriendId), eventId, FriendshipEvent.builder()
+                .eventId(eventId)
+                .eventType(FriendshipEventType.DELETED)
+                .userId(userId)
+                .friendId(deletedFriendId)
+                .occurredAt(LocalDateTime.now())
+                .build());
+    }
 
-        messageFeignClient.deleteMessage(userId, deletedFriendId);
+    private static String pairKey(Long userId, Long friendId) {
+        return Math.min(userId, friendId) + ":" + Math.max(userId, friendId);
     }
 }
 
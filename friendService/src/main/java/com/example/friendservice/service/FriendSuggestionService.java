@@ -0,0 +1,12 @@
+package com.example.friendservice.service;
+
+import com.example.friendservice.dto.response.FriendSuggestionResponseDto;
+
+import java.util.List;
+
+public interface FriendSuggestionService {
+
+    List<FriendSuggestionResponseDto> getSuggestions(Long userId, int size);
+
+    void computeSuggestions();
+}
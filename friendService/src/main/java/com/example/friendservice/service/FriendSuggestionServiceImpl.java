@@ -0,0 +1,268 @@
+package com.example.friendservice.service;
+
+import com.example.friendservice.dto.response.FriendSuggestionResponseDto;
+import com.example.friendservice.entity.FriendSuggestion;
+import com.example.friendservice.feign.UserFeignClient;
+import com.example.friendservice.feign.UserProfileDto;
+import com.example.friendservice.repository.FriendSuggestionJdbcRepository;
+import com.example.friendservice.repository.FriendSuggestionJdbcRepository.SuggestionRow;
+import com.example.friendservice.repository.FriendSuggestionRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 알 수도 있는 친구 (친구의 친구 중 함께 아는 친구가 많은 순)
+ * 배치 작업이 friend_adjacency 전체를 CSR 배열로 올린 뒤 ForkJoinPool 로 사용자 구간을 나눠 계산하고,
+ * 구간마다 friend_suggestion 을 교체한다. API 는 미리 계산된 상위 K 개만 읽는다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class FriendSuggestionServiceImpl implements FriendSuggestionService {
+
+    private static final int MAX_PAGE_SIZE = 50;
+    private static final String LOCK_NAME = "friend-suggestion-job";
+
+    private final FriendSuggestionRepository friendSuggestionRepository;
+    private final FriendSuggestionJdbcRepository friendSuggestionJdbcRepository;
+    private final FriendGraphCache friendGraphCache;
+    private final UserFeignClient userFeignClient;
+
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    @Value("${friend.suggestion.enabled:true}")
+    private boolean enabled;
+
+    @Value("${friend.suggestion.top-k:20}")
+    private int topK;
+
+    @Value("${friend.suggestion.parallelism:0}")
+    private int parallelism;
+
+    // 배치가 비워 둘 연결 수 (API 요청용), 잠금 연결 하나는 따로 뺀다
+    @Value("${friend.suggestion.reserved-connections:2}")
+    private int reservedConnections;
+
+    @Value("${spring.datasource.hikari.maximum-pool-size:10}")
+    private int connectionPoolSize;
+
+    @Value("${friend.suggestion.max-friend-degree:5000}")
+    private int maxFriendDegree;
+
+    @Value("${friend.suggestion.leaf-size:512}")
+    private int leafSize;
+
+    @Override
+    public List<FriendSuggestionResponseDto> getSuggestions(Long userId, int size) {
+        int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        // 계산 이후 친구가 된 사용자는 제외
+        List<FriendSuggestion> suggestions = friendSuggestionRepository
+                .findByUserIdOrderByRankAsc(userId, PageRequest.of(0, pageSize)).stream()
+                .filter(suggestion -> !friendGraphCache.areFriends(userId, suggestion.getSuggestedUserId()))
+                .toList();
+        if (suggestions.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, UserProfileDto> users = userFeignClient.getUserProfiles(suggestions.stream()
+                        .map(FriendSuggestion::getSuggestedUserId)
+                        .toList()).stream()
+                .collect(Collectors.toMap(UserProfileDto::getId, Function.identity(), (a, b) -> a));
+
+        return suggestions.stream()
+                .filter(suggestion -> users.containsKey(suggestion.getSuggestedUserId()))
+                .map(suggestion -> {
+                    UserProfileDto user = users.get(suggestion.getSuggestedUserId());
+                    return FriendSuggestionResponseDto.builder()
+                            .userId(user.getId())
+                            .userName(user.getUserName())
+                            .profileImageUrl(user.getProfileImageUrl())
+                            .mutualFriendCount(suggestion.getMutualCount())
+                            .build();
+                })
+                .toList();
+    }
+
+    /**
+     * 전체 추천 다시 계산
+     * running 은 같은 인스턴스 안의 중복 실행만 막으므로, 인스턴스 간에는 DB 이름 잠금으로 한 곳에서만 실행한다.
+     * (다른 인스턴스 작업이 쓰는 중인 행을 deleteComputedBefore 가 지우지 않도록)
+     */
+    @Scheduled(cron = "${friend.suggestion.cron:0 30 3 * * *}")
+    @Override
+    public void computeSuggestions() {
+        if (!enabled || !running.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            if (!friendSuggestionJdbcRepository.runExclusively(LOCK_NAME, this::computeAll)) {
+                log.info("Friend suggestion job skipped: running on another instance");
+            }
+        } catch (RuntimeException e) {
+            log.error("Friend suggestion job failed", e);
+        } finally {
+            running.set(false);
+        }
+    }
+
+    private void computeAll() {
+        LocalDateTime computedAt = LocalDateTime.now();
+        long startedAt = System.nanoTime();
+        long heapBefore = usedHeap();
+
+        FriendGraphSnapshot graph = loadGraph();
+        long loadedAt = System.nanoTime();
+        long heapAfterLoad = usedHeap();
+
+        AtomicLong written = new AtomicLong();
+        // 작업 스레드마다 한 번만 만드는 카운트 배열 (사용자 수 크기)
+        ThreadLocal<int[][]> scratch = ThreadLocal.withInitial(() -> new int[][]{new int[graph.size()], new int[graph.size()]});
+        ForkJoinPool pool = new ForkJoinPool(effectiveParallelism());
+        try {
+            pool.invoke(new SuggestionTask(graph, 0, graph.size(), computedAt, scratch, written));
+        } finally {
+            pool.shutdown();
+        }
+        int cleaned = friendSuggestionJdbcRepository.deleteComputedBefore(computedAt);
+
+        log.info("Friend suggestion job finished: users={}, edges={}, suggestions={}, cleaned={}, " +
+                        "loadMs={}, computeMs={}, graphHeapMb={}, parallelism={}",
+                graph.size(), graph.neighbors.length, written.get(), cleaned,
+                (loadedAt - startedAt) / 1_000_000, (System.nanoTime() - loadedAt) / 1_000_000,
+                (heapAfterLoad - heapBefore) / (1024 * 1024), pool.getParallelism());
+    }
+
+    private FriendGraphSnapshot loadGraph() {
+        long[][] edges = {new long[1 << 16], new long[1 << 16]};
+        int[] count = {0};
+        friendSuggestionJdbcRepository.scanAdjacency((userId, friendId) -> {
+            if (count[0] == edges[0].length) {
+                edges[0] = Arrays.copyOf(edges[0], edges[0].length * 2);
+                edges[1] = Arrays.copyOf(edges[1], edges[1].length * 2);
+            }
+            edges[0][count[0]] = userId;
+            edges[1][count[0]] = friendId;
+            count[0]++;
+        });
+        return FriendGraphSnapshot.fromSortedEdges(edges[0], edges[1], count[0]);
+    }
+
+    // 구간마다 replace 트랜잭션이 연결을 하나씩 쓰므로, 잠금을 잡은 연결과 요청 처리용 여유분을 뺀 만큼만 병렬로 실행
+    // (코어 수가 연결 풀보다 많으면 풀이 바닥나 API 요청까지 대기하게 됨)
+    int effectiveParallelism() {
+        int requested = parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+        int available = connectionPoolSize - 1 - reservedConnections;
+        return Math.max(1, Math.min(requested, available));
+    }
+
+    private static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    // 사용자 구간 [from, to) 계산 (leaf-size 이하가 되면 계산 후 그 구간 결과를 한 번에 저장)
+    private class SuggestionTask extends RecursiveAction {
+
+        private final FriendGraphSnapshot graph;
+        private final int from;
+        private final int to;
+        private final LocalDateTime computedAt;
+        private final ThreadLocal<int[][]> scratch;
+        private final AtomicLong written;
+
+        SuggestionTask(FriendGraphSnapshot graph, int from, int to, LocalDateTime computedAt,
+                       ThreadLocal<int[][]> scratch, AtomicLong written) {
+            this.graph = graph;
+            this.from = from;
+            this.to = to;
+            this.computedAt = computedAt;
+            this.scratch = scratch;
+            this.written = written;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from > leafSize) {
+                int mid = (from + to) >>> 1;
+                invokeAll(new SuggestionTask(graph, from, mid, computedAt, scratch, written),
+                        new SuggestionTask(graph, mid, to, computedAt, scratch, written));
+                return;
+            }
+
+            int[] mutualCounts = scratch.get()[0];
+            int[] touched = scratch.get()[1];
+            int[] topNodes = new int[topK];
+            int[] topCounts = new int[topK];
+            List<Long> userIds = new ArrayList<>(to - from);
+            List<SuggestionRow> rows = new ArrayList<>();
+
+            for (int node = from; node < to; node++) {
+                userIds.add(graph.userIds[node]);
+                int found = topCandidates(node, mutualCounts, touched, topNodes, topCounts);
+                for (int rank = 0; rank < found; rank++) {
+                    rows.add(new SuggestionRow(graph.userIds[node], graph.userIds[topNodes[rank]], topCounts[rank], rank + 1));
+                }
+            }
+
+            friendSuggestionJdbcRepository.replace(userIds, rows, computedAt);
+            written.addAndGet(rows.size());
+        }
+
+        // 친구의 친구별 함께 아는 친구 수를 세고 상위 K 개를 topNodes/topCounts 에 (많은 순, 같으면 작은 id 순) 채움
+        private int topCandidates(int node, int[] mutualCounts, int[] touched, int[] topNodes, int[] topCounts) {
+            int touchedCount = 0;
+            for (int i = graph.offsets[node]; i < graph.offsets[node + 1]; i++) {
+                int friend = graph.neighbors[i];
+                if (graph.degree(friend) > maxFriendDegree) {
+                    continue;  // 친구가 매우 많은 사용자는 추천 근거로 약하고 비용만 커서 제외
+                }
+                for (int j = graph.offsets[friend]; j < graph.offsets[friend + 1]; j++) {
+                    int candidate = graph.neighbors[j];
+                    if (candidate != node && mutualCounts[candidate]++ == 0) {
+                        touched[touchedCount++] = candidate;
+                    }
+                }
+            }
+
+            int found = 0;
+            for (int t = 0; t < touchedCount; t++) {
+                int candidate = touched[t];
+                int mutual = mutualCounts[candidate];
+                mutualCounts[candidate] = 0;
+                if (graph.areFriends(node, candidate)) {
+                    continue;
+                }
+                if (found == topK && (mutual < topCounts[found - 1]
+                        || (mutual == topCounts[found - 1] && candidate > topNodes[found - 1]))) {
+                    continue;
+                }
+                int position = found == topK ? found - 1 : found++;
+                while (position > 0 && (topCounts[position - 1] < mutual
+                        || (topCounts[position - 1] == mutual && topNodes[position - 1] > candidate))) {
+                    topCounts[position] = topCounts[position - 1];
+                    topNodes[position] = topNodes[position - 1];
+                    position--;
+                }
+                topCounts[position] = mutual;
+                topNodes[position] = candidate;
+            }
+            return found;
+        }
+    }
+}
@@ -0,0 +1,10 @@
+package com.example.friendservice.service;
+
+public interface OutboxService {
+
+    void append(String topic, String key, String eventId, Object payload);
+
+    void publishPending();
+
+    void purgePublished();
+}
@@ -0,0 +1,96 @@
+package com.example.friendservice.service;
+
+import com.example.friendservice.entity.OutboxEvent;
+import com.example.friendservice.repository.OutboxEventRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.transaction.Transactional;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class OutboxServiceImpl implements OutboxService {
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final KafkaTemplate<String, String> kafkaTemplate;
+    private final ObjectMapper objectMapper;
+
+    @Value("${outbox.send-timeout-ms:5000}")
+    private long sendTimeoutMs;
+
+    @Value("${outbox.retention-hours:24}")
+    private long retentionHours;
+
+    // 호출한 쪽의 트랜잭션에 함께 저장 (커밋되어야만 발행됨)
+    @Transactional(Transactional.TxType.MANDATORY)
+    @Override
+    public void append(String topic, String key, String eventId, Object payload) {
+        try {
+            outboxEventRepository.save(OutboxEvent.builder()
+                    .eventId(eventId)
+                    .topic(topic)
+                    .eventKey(key)
+                    .payload(objectMapper.writeValueAsString(payload))
+                    .published(false)
+                    .build());
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize outbox payload: " + topic, e);
+        }
+    }
+
+    // 미발행 이벤트를 Kafka 로 발행 (at-least-once, 수신 측에서 eventId 로 중복 제거)
+    @Scheduled(fixedDelayString = "${outbox.publish-interval-ms:500}")
+    @Transactional
+    @Override
+    public void publishPending() {
+        List<OutboxEvent> pending = outboxEventRepository.findTop100ByPublishedFalseOrderByIdxAsc();
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        // 한 번에 보내고 순서대로 결과 확인
+        List<CompletableFuture<?>> futures = new ArrayList<>(pending.size());
+        for (OutboxEvent event : pending) {
+            futures.add(kafkaTemplate.send(event.getTopic(), event.getEventKey(), event.getPayload()));
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        int published = 0;
+        for (int i = 0; i < pending.size(); i++) {
+            try {
+                futures.get(i).get(sendTimeoutMs, TimeUnit.MILLISECONDS);
+            } catch (Exception e) {
+                // 실패 이후 이벤트는 다음 주기에 순서대로 재시도
+                log.warn("Outbox publish failed, will retry: idx={}", pending.get(i).getIdx(), e);
+                break;
+            }
+            pending.get(i).setPublished(true);
+            pending.get(i).setPublishedAt(now);
+            published++;
+        }
+        log.debug("Outbox published {}/{} events", published, pending.size());
+    }
+
+    // 발행 완료 이벤트 정리
+    @Scheduled(cron = "${outbox.purge-cron:0 0 * * * *}")
+    @Transactional
+    @Override
+    public void purgePublished() {
+        int deleted = outboxEventRepository.deletePublishedBefore(LocalDateTime.now().minusHours(retentionHours));
+        if (deleted > 0) {
+            log.info("Outbox purged {} published events", deleted);
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package com.example.friendservice.service;
+
+import com.example.friendservice.constant.Status;
+import com.example.friendservice.entity.Friend;
+import com.example.friendservice.feign.UserFeignClient;
+import com.example.friendservice.feign.UserProfileDto;
+import com.example.friendservice.repository.FriendAdjacencyRepository;
+import com.example.friendservice.repository.FriendRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 받은 친구 요청 목록의 id -> 프로필 매칭(fetchUsersById, Long 키 HashMap) 마이크로 벤치마크
+ * userService 호출은 mock 으로 바꿔 매칭 비용만 남기고, 10 ~ 10,000 명에서 한 명당 시간을 비교한다.
+ * 키 박싱이 병목이면 크기에 따라 한 명당 시간이 늘어나므로 선형에 가까운지만 확인한다. (절대 시간은 환경마다 다름)
+ */
+class FriendLookupJoinBenchmarkTest {
+
+    private static final long RECEIVER_ID = 0L;
+    private static final int[] SIZES = {10, 100, 1_000, 10_000};
+    private static final int WARMUP_ROUNDS = 200;
+    // 크기마다 이만큼의 요청자를 처리하도록 반복 횟수를 맞춤
+    private static final int REQUESTERS_PER_SIZE = 500_000;
+
+    private FriendRepository friendRepository;
+    private FriendServiceImpl service;
+
+    @BeforeEach
+    void setUp() {
+        friendRepository = mock(FriendRepository.class);
+        UserFeignClient userFeignClient = mock(UserFeignClient.class);
+        service = new FriendServiceImpl(friendRepository, mock(FriendAdjacencyRepository.class),
+                mock(FriendGraphCache.class), userFeignClient, mock(OutboxService.class));
+        ReflectionTestUtils.setField(service, "userLookupChunkSize", 200);
+
+        // userService 응답 순서는 요청 순서와 같지 않으므로 뒤집어서 돌려줌
+        when(userFeignClient.getUserProfiles(anyList())).thenAnswer(invocation -> {
+            List<Long> ids = invocation.getArgument(0);
+            List<UserProfileDto> profiles = new ArrayList<>(ids.size());
+            for (int i = ids.size() - 1; i >= 0; i--) {
+                Long id = ids.get(i);
+                profiles.add(new UserProfileDto(id, "user" + id, null));
+            }
+            return profiles;
+        });
+    }
+
+    @Test
+    void keyedJoinScalesLinearlyFrom10To10000Friends() {
+        pendingRequests(1_000);
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            service.getFriendRequests(RECEIVER_ID);
+        }
+
+        double[] nanosPerRequester = new double[SIZES.length];
+        for (int s = 0; s < SIZES.length; s++) {
+            int size = SIZES[s];
+            pendingRequests(size);
+            int rounds = Math.max(5, REQUESTERS_PER_SIZE / size);
+
+            long started = System.nanoTime();
+            int matched = 0;
+            for (int i = 0; i < rounds; i++) {
+                matched += service.getFriendRequests(RECEIVER_ID).size();
+            }
+            long elapsed = System.nanoTime() - started;
+
+            assertThat(matched).isEqualTo(size * rounds);
+            nanosPerRequester[s] = (double) elapsed / ((long) size * rounds);
+            System.out.printf("friend request join: requesters=%d rounds=%d %.1f ns/requester%n",
+                    size, rounds, nanosPerRequester[s]);
+        }
+
+        // 해시 매칭은 한 명당 시간이 거의 일정해야 함 (10 명은 chunk 호출 고정 비용이 커서 제외)
+        // 정렬/중첩 탐색처럼 크기에 비례해 늘면 10,000 명이 100 명보다 수십 배 느려진다
+        assertThat(nanosPerRequester[3]).isLessThan(nanosPerRequester[1] * 10);
+    }
+
+    private void pendingRequests(int size) {
+        List<Friend> requests = LongStream.rangeClosed(1, size)
+                .mapToObj(requesterId -> Friend.builder()
+                        .requesterId(requesterId)
+                        .receiverId(RECEIVER_ID)
+                        .status(Status.PENDING)
+                        .build())
+                .toList();
+        when(friendRepository.findByReceiverIdAndStatus(RECEIVER_ID, Status.PENDING)).thenReturn(requests);
+    }
+}
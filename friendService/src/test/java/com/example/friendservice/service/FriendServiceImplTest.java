@@ -0,0 +1,63 @@
+package com.example.friendservice.service;
+
+import com.example.friendservice.constant.Status;
+import com.example.friendservice.dto.response.UserSearchResponseDto;
+import com.example.friendservice.entity.Friend;
+import com.example.friendservice.feign.UserFeignClient;
+import com.example.friendservice.feign.UserProfileDto;
+import com.example.friendservice.repository.FriendAdjacencyRepository;
+import com.example.friendservice.repository.FriendRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class FriendServiceImplTest {
+
+    private static final long RECEIVER_ID = 1L;
+
+    private FriendRepository friendRepository;
+    private UserFeignClient userFeignClient;
+    private FriendServiceImpl service;
+
+    @BeforeEach
+    void setUp() {
+        friendRepository = mock(FriendRepository.class);
+        userFeignClient = mock(UserFeignClient.class);
+        service = new FriendServiceImpl(friendRepository, mock(FriendAdjacencyRepository.class),
+                mock(FriendGraphCache.class), userFeignClient, mock(OutboxService.class));
+        ReflectionTestUtils.setField(service, "userLookupChunkSize", 200);
+    }
+
+    @Test
+    void skipsRequestersWithoutProfile() {
+        // 3 은 탈퇴해서 userService 에 프로필이 없음
+        pendingRequestsFrom(2L, 3L, 4L);
+        when(userFeignClient.getUserProfiles(anyList())).thenReturn(List.of(
+                new UserProfileDto(2L, "user2", "/images/2.png"),
+                new UserProfileDto(4L, "user4", "/images/4.png")));
+
+        List<UserSearchResponseDto> requests = service.getFriendRequests(RECEIVER_ID);
+
+        assertThat(requests).extracting(UserSearchResponseDto::getFriendId).containsExactly(2L, 4L);
+        assertThat(requests).extracting(UserSearchResponseDto::getUserId).containsOnly(RECEIVER_ID);
+    }
+
+    private void pendingRequestsFrom(Long... requesterIds) {
+        when(friendRepository.findByReceiverIdAndStatus(RECEIVER_ID, Status.PENDING)).thenReturn(
+                Arrays.stream(requesterIds)
+                        .map(requesterId -> Friend.builder()
+                                .requesterId(requesterId)
+                                .receiverId(RECEIVER_ID)
+                                .status(Status.PENDING)
+                                .build())
+                        .toList());
+    }
+}
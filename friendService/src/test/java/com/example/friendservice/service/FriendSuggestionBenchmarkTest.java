@@ -0,0 +1,139 @@
+package com.example.friendservice.service;
+
+import com.example.friendservice.feign.UserFeignClient;
+import com.example.friendservice.repository.FriendSuggestionJdbcRepository;
+import com.example.friendservice.repository.FriendSuggestionJdbcRepository.EdgeHandler;
+import com.example.friendservice.repository.FriendSuggestionJdbcRepository.SuggestionRow;
+import com.example.friendservice.repository.FriendSuggestionRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+/**
+ * 간선 100만 개(양방향 행 기준) 합성 그래프로 추천 배치 전체(FriendGraphSnapshot 적재 + SuggestionTask 계산) 시간과 메모리 측정
+ * 사용자 50,000 명이 평균 20 명의 친구를 가지며, 일부 사용자는 친구가 많게 만들어 차수 편차를 둔다.
+ * DB 는 mock 으로 바꿔 계산 비용만 남긴다. (저장된 추천 행은 개수만 셈)
+ */
+class FriendSuggestionBenchmarkTest {
+
+    private static final int USERS = 50_000;
+    private static final int FRIENDSHIPS = 500_000;  // 양방향 행 1,000,000 개
+    private static final int POPULAR_USERS = 500;    // 친구 요청이 몰리는 사용자
+    private static final int TOP_K = 20;
+
+    @Test
+    void computesSuggestionsForMillionEdgeGraph() {
+        long[][] edges = syntheticSortedEdges();
+        int edgeCount = edges[0].length;
+
+        FriendSuggestionJdbcRepository jdbcRepository = mock(FriendSuggestionJdbcRepository.class, withSettings().stubOnly());
+        when(jdbcRepository.runExclusively(anyString(), any())).thenAnswer(invocation -> {
+            invocation.<Runnable>getArgument(1).run();
+            return true;
+        });
+        doAnswer(invocation -> {
+            EdgeHandler handler = invocation.getArgument(0);
+            for (int i = 0; i < edgeCount; i++) {
+                handler.accept(edges[0][i], edges[1][i]);
+            }
+            return null;
+        }).when(jdbcRepository).scanAdjacency(any());
+
+        AtomicLong users = new AtomicLong();
+        AtomicLong rows = new AtomicLong();
+        doAnswer(invocation -> {
+            users.addAndGet(invocation.<List<Long>>getArgument(0).size());
+            rows.addAndGet(invocation.<List<SuggestionRow>>getArgument(1).size());
+            return null;
+        }).when(jdbcRepository).replace(any(), any(), any(LocalDateTime.class));
+
+        FriendSuggestionServiceImpl service = new FriendSuggestionServiceImpl(mock(FriendSuggestionRepository.class),
+                jdbcRepository, mock(FriendGraphCache.class), mock(UserFeignClient.class));
+        ReflectionTestUtils.setField(service, "enabled", true);
+        ReflectionTestUtils.setField(service, "topK", TOP_K);
+        ReflectionTestUtils.setField(service, "parallelism", 0);
+        ReflectionTestUtils.setField(service, "reservedConnections", 2);
+        ReflectionTestUtils.setField(service, "connectionPoolSize", 10);
+        ReflectionTestUtils.setField(service, "maxFriendDegree", 5000);
+        ReflectionTestUtils.setField(service, "leafSize", 512);
+
+        // 그래프 배열 크기 (적재 중 임시 간선 배열은 제외)
+        FriendGraphSnapshot graph = FriendGraphSnapshot.fromSortedEdges(edges[0], edges[1], edgeCount);
+        long graphBytes = (long) graph.userIds.length * Long.BYTES
+                + (long) graph.offsets.length * Integer.BYTES
+                + (long) graph.neighbors.length * Integer.BYTES;
+
+        long started = System.nanoTime();
+        service.computeSuggestions();
+        long elapsedMs = (System.nanoTime() - started) / 1_000_000;
+
+        System.out.printf("friend suggestion job: users=%d edges=%d suggestions=%d parallelism=%d elapsedMs=%d graphMb=%.1f%n",
+                users.get(), edgeCount, rows.get(), service.effectiveParallelism(), elapsedMs, graphBytes / (1024.0 * 1024.0));
+
+        assertThat(edgeCount).isEqualTo(FRIENDSHIPS * 2);
+        assertThat(users.get()).isEqualTo(graph.size());
+        assertThat(rows.get()).isPositive().isLessThanOrEqualTo((long) graph.size() * TOP_K);
+        // CSR 배열은 간선당 int 하나 + 사용자당 long/int 하나 (객체 그래프였다면 수백 MB)
+        assertThat(graphBytes).isLessThan(8L * 1024 * 1024);
+    }
+
+    // 중복 없는 무작위 친구 관계를 만들고 friend_adjacency 처럼 (user, friend) 순으로 정렬된 양방향 행으로 반환
+    private static long[][] syntheticSortedEdges() {
+        SplittableRandom random = new SplittableRandom(42);
+        long[] pairs = new long[FRIENDSHIPS];
+        int count = 0;
+        while (count < FRIENDSHIPS) {
+            // 10% 는 인기 사용자와의 관계
+            int a = random.nextInt(10) == 0 ? random.nextInt(POPULAR_USERS) : random.nextInt(USERS);
+            int b = random.nextInt(USERS);
+            if (a == b) {
+                continue;
+            }
+            pairs[count++] = ((long) Math.min(a, b) << 32) | Math.max(a, b);
+            if (count == FRIENDSHIPS) {
+                Arrays.sort(pairs);
+                count = dedupe(pairs);
+            }
+        }
+
+        long[] directed = new long[FRIENDSHIPS * 2];
+        for (int i = 0; i < FRIENDSHIPS; i++) {
+            long a = pairs[i] >>> 32;
+            long b = pairs[i] & 0xFFFFFFFFL;
+            directed[2 * i] = (a << 32) | b;
+            directed[2 * i + 1] = (b << 32) | a;
+        }
+        Arrays.sort(directed);
+
+        long[][] edges = {new long[directed.length], new long[directed.length]};
+        for (int i = 0; i < directed.length; i++) {
+            // 사용자 id 는 1 부터
+            edges[0][i] = (directed[i] >>> 32) + 1;
+            edges[1][i] = (directed[i] & 0xFFFFFFFFL) + 1;
+        }
+        return edges;
+    }
+
+    private static int dedupe(long[] sorted) {
+        int unique = 0;
+        for (int i = 0; i < sorted.length; i++) {
+            if (i == 0 || sorted[i] != sorted[i - 1]) {
+                sorted[unique++] = sorted[i];
+            }
+        }
+        return unique;
+    }
+}
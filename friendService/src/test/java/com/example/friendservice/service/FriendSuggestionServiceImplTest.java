@@ -0,0 +1,157 @@
+package com.example.friendservice.service;
+
+import com.example.friendservice.feign.UserFeignClient;
+import com.example.friendservice.repository.FriendSuggestionJdbcRepository;
+import com.example.friendservice.repository.FriendSuggestionJdbcRepository.EdgeHandler;
+import com.example.friendservice.repository.FriendSuggestionJdbcRepository.SuggestionRow;
+import com.example.friendservice.repository.FriendSuggestionRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 작은 그래프로 추천 계산 확인
+ * 1-2, 1-3, 2-4, 3-4, 2-5, 4-6, 5-6 과 별 모양 10-11, 10-12, 10-13
+ */
+class FriendSuggestionServiceImplTest {
+
+    private static final long[][] FRIENDSHIPS = {
+            {1, 2}, {1, 3}, {2, 4}, {3, 4}, {2, 5}, {4, 6}, {5, 6},
+            {10, 11}, {10, 12}, {10, 13}
+    };
+
+    private FriendSuggestionJdbcRepository jdbcRepository;
+    private FriendSuggestionServiceImpl service;
+
+    @BeforeEach
+    void setUp() {
+        jdbcRepository = mock(FriendSuggestionJdbcRepository.class);
+        service = new FriendSuggestionServiceImpl(mock(FriendSuggestionRepository.class), jdbcRepository,
+                mock(FriendGraphCache.class), mock(UserFeignClient.class));
+        ReflectionTestUtils.setField(service, "enabled", true);
+        ReflectionTestUtils.setField(service, "topK", 20);
+        ReflectionTestUtils.setField(service, "parallelism", 1);
+        ReflectionTestUtils.setField(service, "maxFriendDegree", 5000);
+        ReflectionTestUtils.setField(service, "leafSize", 512);
+
+        doAnswer(invocation -> {
+            EdgeHandler handler = invocation.getArgument(0);
+            sortedEdges().forEach(edge -> handler.accept(edge[0], edge[1]));
+            return null;
+        }).when(jdbcRepository).scanAdjacency(any());
+    }
+
+    @Test
+    void ranksFriendsOfFriendsByMutualCount() {
+        lockAcquired(true);
+
+        List<SuggestionRow> rows = computeRows();
+
+        assertThat(suggestionsFor(rows, 1)).containsExactly(
+                new SuggestionRow(1, 4, 2, 1),
+                new SuggestionRow(1, 5, 1, 2));
+        assertThat(suggestionsFor(rows, 3)).containsExactly(
+                new SuggestionRow(3, 2, 2, 1),
+                new SuggestionRow(3, 6, 1, 2));
+        // 이미 친구인 사용자(4 의 친구 2, 3, 6)는 추천하지 않음
+        assertThat(suggestionsFor(rows, 4)).extracting(SuggestionRow::suggestedUserId).containsExactly(1L, 5L);
+    }
+
+    @Test
+    void keepsTopKWithSmallerIdFirstOnTies() {
+        lockAcquired(true);
+        ReflectionTestUtils.setField(service, "topK", 1);
+
+        List<SuggestionRow> rows = computeRows();
+
+        assertThat(suggestionsFor(rows, 1)).containsExactly(new SuggestionRow(1, 4, 2, 1));
+        assertThat(suggestionsFor(rows, 11)).containsExactly(new SuggestionRow(11, 12, 1, 1));
+        assertThat(suggestionsFor(rows, 10)).isEmpty();
+    }
+
+    @Test
+    void skipsWhenAnotherInstanceHoldsTheLock() {
+        lockAcquired(false);
+
+        service.computeSuggestions();
+
+        verify(jdbcRepository, never()).scanAdjacency(any());
+        verify(jdbcRepository, never()).deleteComputedBefore(any());
+    }
+
+    @Test
+    void snapshotDropsOneWayEdges() {
+        // 2 -> 3 은 반대 방향 행이 없음
+        FriendGraphSnapshot graph = FriendGraphSnapshot.fromSortedEdges(
+                new long[]{1, 2, 2}, new long[]{2, 1, 3}, 3);
+
+        assertThat(graph.userIds).containsExactly(1L, 2L);
+        assertThat(graph.offsets).containsExactly(0, 1, 2);
+        assertThat(graph.areFriends(0, 1)).isTrue();
+        assertThat(graph.degree(1)).isEqualTo(1);
+    }
+
+    @Test
+    void capsParallelismBelowConnectionPool() {
+        ReflectionTestUtils.setField(service, "connectionPoolSize", 10);
+        ReflectionTestUtils.setField(service, "reservedConnections", 2);
+
+        ReflectionTestUtils.setField(service, "parallelism", 32);
+        assertThat(service.effectiveParallelism()).isEqualTo(7);
+
+        ReflectionTestUtils.setField(service, "parallelism", 4);
+        assertThat(service.effectiveParallelism()).isEqualTo(4);
+
+        // 풀이 아주 작아도 한 스레드로는 실행
+        ReflectionTestUtils.setField(service, "connectionPoolSize", 2);
+        assertThat(service.effectiveParallelism()).isEqualTo(1);
+    }
+
+    private void lockAcquired(boolean acquired) {
+        when(jdbcRepository.runExclusively(anyString(), any())).thenAnswer(invocation -> {
+            if (acquired) {
+                invocation.<Runnable>getArgument(1).run();
+            }
+            return acquired;
+        });
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<SuggestionRow> computeRows() {
+        service.computeSuggestions();
+
+        ArgumentCaptor<List<SuggestionRow>> rows = ArgumentCaptor.forClass(List.class);
+        verify(jdbcRepository).replace(any(), rows.capture(), any(LocalDateTime.class));
+        return rows.getValue();
+    }
+
+    private static List<SuggestionRow> suggestionsFor(List<SuggestionRow> rows, long userId) {
+        return rows.stream().filter(row -> row.userId() == userId).toList();
+    }
+
+    // friend_adjacency 처럼 양방향 행을 (user, friend) 순으로 정렬
+    private static List<long[]> sortedEdges() {
+        List<long[]> edges = new ArrayList<>();
+        for (long[] pair : FRIENDSHIPS) {
+            edges.add(new long[]{pair[0], pair[1]});
+            edges.add(new long[]{pair[1], pair[0]});
+        }
+        edges.sort(Comparator.<long[]>comparingLong(edge -> edge[0]).thenComparingLong(edge -> edge[1]));
+        return edges;
+    }
+}
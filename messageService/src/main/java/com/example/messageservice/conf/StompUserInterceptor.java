@@ -0,0 +1,55 @@
+package com.example.messageservice.conf;
+
+import com.example.authcommon.JwtTokenVerifier;
+import com.example.authcommon.VerifiedToken;
+import io.jsonwebtoken.JwtException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageDeliveryException;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageHeaderAccessor;
+import org.springframework.stereotype.Component;
+
+import java.security.Principal;
+
+// STOMP CONNECT 의 Authorization 헤더(Bearer 토큰)를 검증해 세션 사용자 지정 (/user/queue/... 전달 대상)
+// 브라우저 WebSocket 은 핸드셰이크에 헤더를 못 붙이므로 CONNECT 프레임에서 검증한다.
+@Component
+@RequiredArgsConstructor
+public class StompUserInterceptor implements ChannelInterceptor {
+
+    private static final String AUTHORIZATION_HEADER = "Authorization";
+    private static final String BEARER_PREFIX = "Bearer ";
+
+    private final JwtTokenVerifier jwtTokenVerifier;
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        StompHeaderAccessor accessor = MessageHeaderAccessor.getAccessor(message, StompHeaderAccessor.class);
+        if (accessor != null && StompCommand.CONNECT.equals(accessor.getCommand())) {
+            String bearerToken = accessor.getFirstNativeHeader(AUTHORIZATION_HEADER);
+            if (bearerToken == null || !bearerToken.startsWith(BEARER_PREFIX)) {
+                throw new MessageDeliveryException(message, "Missing JWT token");
+            }
+
+            VerifiedToken verified;
+            try {
+                verified = jwtTokenVerifier.verify(bearerToken.substring(BEARER_PREFIX.length()));
+            } catch (JwtException | IllegalArgumentException e) {
+                throw new MessageDeliveryException(message, "Invalid or expired JWT token");
+            }
+            // idx claim 이 없는 이전 형식 토큰은 사용자를 특정할 수 없으므로 거부
+            if (verified.userId() == null) {
+                throw new MessageDeliveryException(message, "Token has no user id");
+            }
+
+            String userId = String.valueOf(verified.userId());
+            Principal principal = () -> userId;
+            accessor.setUser(principal);
+        }
+        return message;
+    }
+}
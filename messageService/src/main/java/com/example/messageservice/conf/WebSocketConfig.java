@@ -0,0 +1,43 @@
+package com.example.messageservice.conf;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.messaging.simp.config.ChannelRegistration;
+import org.springframework.messaging.simp.config.MessageBrokerRegistry;
+import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
+import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
+import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
+
+/**
+ * 채팅용 WebSocket(STOMP) 설정
+ * 클라이언트 -> 서버: /app/message.send, /app/message.read, /app/presence.heartbeat, /app/presence.typing
+ * 서버 -> 클라이언트: /user/queue/messages (여러 이벤트를 배열로 묶어 전송), /user/queue/errors (잘못된 요청)
+ */
+@Configuration
+@EnableWebSocketMessageBroker
+@RequiredArgsConstructor
+public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
+
+    private final Environment environment;
+    private final StompUserInterceptor stompUserInterceptor;
+
+    @Override
+    public void registerStompEndpoints(StompEndpointRegistry registry) {
+        String[] origins = environment.getProperty("cors.allowed-origins", String[].class, new String[0]);
+        registry.addEndpoint("/message/ws")
+                .setAllowedOrigins(origins);
+    }
+
+    @Override
+    public void configureMessageBroker(MessageBrokerRegistry registry) {
+        registry.setApplicationDestinationPrefixes("/app");
+        registry.enableSimpleBroker("/queue");
+        registry.setUserDestinationPrefix("/user");
+    }
+
+    @Override
+    public void configureClientInboundChannel(ChannelRegistration registration) {
+        registration.interceptors(stompUserInterceptor);
+    }
+}
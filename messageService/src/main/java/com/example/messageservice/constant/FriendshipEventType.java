@@ -0,0 +1,7 @@
+package com.example.messageservice.constant;
+
+// friendService 의 FriendshipEventType 과 이름을 맞춰야 함
+public enum FriendshipEventType {
+    ACCEPTED,
+    DELETED
+}
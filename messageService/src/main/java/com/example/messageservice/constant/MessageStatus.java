@@ -1,5 +1,6 @@
 package com.example.messageservice.constant;
 
+// 읽음 여부는 conversation 읽음 위치로 판단하므로 저장 값은 항상 UNREAD (기존 데이터 호환용)
 public enum MessageStatus {
     UNREAD, READ
 }
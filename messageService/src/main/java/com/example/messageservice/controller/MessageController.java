@@ -1,77 +1,115 @@
 package com.example.messageservice.controller;
 
+import com.example.authcommon.AuthAttributes;
 import com.example.messageservice.dto.request.MessageRequestDto;
 import com.example.messageservice.dto.response.ConversationDto;
+import com.example.messageservice.dto.response.MessagePageDto;
+import com.example.messageservice.dto.response.ReadReceiptDto;
 import com.example.messageservice.entity.Message;
+import com.example.messageservice.exception.commonException.error.UnauthorizedAccessException;
+import com.example.messageservice.service.MessageDeliveryService;
+import com.example.messageservice.service.MessageSendResult;
 import com.example.messageservice.service.MessageService;
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
-import java.io.IOException;
 import java.util.List;
-import java.util.concurrent.ConcurrentHashMap;
 
 @RestController
 @RequestMapping("message")
 @RequiredArgsConstructor
 public class MessageController {
     private final MessageService messageService;
-    private final ConcurrentHashMap<Long, SseEmitter> emitters = new ConcurrentHashMap<>();
+    private final MessageDeliveryService messageDeliveryService;
 
     // SSE 연결 설정
     @GetMapping("/subscribe/{userId}")
-    public SseEmitter subscribe(@PathVariable Long userId) {
-        SseEmitter emitter = new SseEmitter(Long.MAX_VALUE);
-        emitters.put(userId, emitter);
-
-        emitter.onCompletion(() -> emitters.remove(userId));
-        emitter.onTimeout(() -> emitters.remove(userId));
-        emitter.onError(e -> emitters.remove(userId));
-
-        return emitter;
+    public SseEmitter subscribe(@PathVariable Long userId, HttpServletRequest request) {
+        checkCaller(request, userId);
+        return messageDeliveryService.subscribe(userId);
     }
 
-    // 메시지 전송
+    // 메시지 전송 (Idempotency-Key 로 재시도해도 한 번만 저장/전달)
     @PostMapping("/send")
-    public ResponseEntity<Message> sendMessage(@RequestBody MessageRequestDto requestDto) {
-        Message message = messageService.sendMessage(requestDto);
+    public ResponseEntity<Message> sendMessage(@RequestBody MessageRequestDto requestDto,
+                                               @RequestHeader(name = "Idempotency-Key", required = false) String idempotencyKey,
+                                               HttpServletRequest request) {
+        checkCaller(request, requestDto.getSenderId());
+        if (requestDto.getClientMessageId() == null) {
+            requestDto.setClientMessageId(idempotencyKey);
+        }
+        MessageSendResult result = messageService.sendMessage(requestDto);
+        Message message = result.message();
 
-        // 실시간으로 메시지 전송
-        SseEmitter emitter = emitters.get(message.getReceiverId());
-        if (emitter != null) {
-            try {
-                emitter.send(SseEmitter.event()
-                        .name("message")
-                        .data(message));
-            } catch (IOException e) {
-                emitters.remove(message.getReceiverId());
-            }
+        if (result.duplicate()) {
+            return ResponseEntity.ok()
+                    .header("Idempotent-Replayed", "true")
+                    .body(message);
         }
 
+        // 실시간으로 메시지 전송 (받는 사람 + 보낸 사람의 다른 탭/기기)
+        messageDeliveryService.deliver(message.getReceiverId(), "message", message);
+        messageDeliveryService.deliver(message.getSenderId(), "message", message);
+
         return ResponseEntity.ok(message);
     }
 
     @GetMapping("/messages/{userId}/{otherUserId}")
-    public ResponseEntity<List<Message>> getMessages(
+    public ResponseEntity<MessagePageDto> getMessages(
             @PathVariable Long userId,
-            @PathVariable Long otherUserId
+            @PathVariable Long otherUserId,
+            @RequestParam(name = "before", required = false) Long before,
+            @RequestParam(name = "after", required = false) Long after,
+            @RequestParam(name = "size", defaultValue = "50") int size,
+            HttpServletRequest request
     ) {
-        List<Message> messages = messageService.getMessages(userId, otherUserId);
+        checkCaller(request, userId);
+        MessagePageDto messages = messageService.getMessages(userId, otherUserId, before, after, size);
         return ResponseEntity.ok(messages);
     }
 
     @GetMapping("/conversations/{userId}")
-    public ResponseEntity<List<ConversationDto>> getRecentConversations(@PathVariable(name = "userId") Long userId) {
-        List<ConversationDto> conversations = messageService.getRecentConversations(userId);
+    public ResponseEntity<List<ConversationDto>> getRecentConversations(@PathVariable(name = "userId") Long userId,
+                                                                        @RequestParam(name = "page", defaultValue = "0") int page,
+                                                                        @RequestParam(name = "size", defaultValue = "20") int size,
+                                                                        HttpServletRequest request) {
+        checkCaller(request, userId);
+        List<ConversationDto> conversations = messageService.getRecentConversations(userId, page, size);
         return ResponseEntity.ok(conversations);
     }
 
+    // 읽음 처리 (lastMessageIdx 가 없으면 대화 전체) 후 상대방에게 읽음 확인 전송
+    @PutMapping("/read/{userId}/{otherUserId}")
+    public ResponseEntity<String> markAsRead(@PathVariable Long userId,
+                                             @PathVariable Long otherUserId,
+                                             @RequestParam(name = "lastMessageIdx", required = false) Long lastMessageIdx,
+                                             HttpServletRequest request) {
+        checkCaller(request, userId);
+        messageService.markAsRead(userId, otherUserId, lastMessageIdx);
+        messageDeliveryService.deliver(otherUserId, "read", ReadReceiptDto.builder()
+                .readerId(userId)
+                .otherUserId(otherUserId)
+                .lastMessageIdx(lastMessageIdx)
+                .build());
+        return ResponseEntity.ok("Messages marked as read.");
+    }
+
     @DeleteMapping("/{userId}/{friendId}")
     public ResponseEntity<String> deleteMessage(@PathVariable Long userId,
-                                                           @PathVariable Long friendId) {
+                                                           @PathVariable Long friendId,
+                                                           HttpServletRequest request) {
+        checkCaller(request, userId);
         messageService.deleteMessage(userId, friendId);
         return ResponseEntity.ok("All message deleted.");
     }
+
+    // 토큰 주인의 요청만 허용 (다른 서비스의 Feign 호출은 내부 인증 헤더로 통과)
+    private static void checkCaller(HttpServletRequest request, Long userId) {
+        if (!AuthAttributes.isCallerOrInternal(request, userId)) {
+            throw new UnauthorizedAccessException();
+        }
+    }
 }
\ No newline at end of file
@@ -0,0 +1,112 @@
+package com.example.messageservice.controller;
+
+import com.example.messageservice.dto.request.MessageReadDto;
+import com.example.messageservice.dto.request.MessageRequestDto;
+import com.example.messageservice.dto.request.TypingRequestDto;
+import com.example.messageservice.dto.response.ReadReceiptDto;
+import com.example.messageservice.entity.Message;
+import com.example.messageservice.exception.commonException.ErrorResponse;
+import com.example.messageservice.service.MessageDeliveryService;
+import com.example.messageservice.service.MessageSendResult;
+import com.example.messageservice.service.MessageService;
+import com.example.messageservice.service.PresenceService;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Valid;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.messaging.converter.MessageConversionException;
+import org.springframework.messaging.handler.annotation.MessageExceptionHandler;
+import org.springframework.messaging.handler.annotation.MessageMapping;
+import org.springframework.messaging.handler.annotation.Payload;
+import org.springframework.messaging.handler.annotation.support.MethodArgumentNotValidException;
+import org.springframework.messaging.simp.annotation.SendToUser;
+import org.springframework.stereotype.Controller;
+
+import java.security.Principal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+// WebSocket(STOMP) 채팅: 한 연결로 여러 메시지 전송 + 읽음 확인
+@Slf4j
+@Controller
+@RequiredArgsConstructor
+public class MessageStompController {
+    private final MessageService messageService;
+    private final MessageDeliveryService messageDeliveryService;
+    private final PresenceService presenceService;
+    private final Validator validator;
+
+    // 메시지 여러 건 전송 (보낸 사람은 연결한 사용자로 고정, 이미 저장된 clientMessageId 는 다시 전달하지 않음)
+    @MessageMapping("/message.send")
+    public void sendMessages(@Payload List<MessageRequestDto> requestDtos, Principal principal) {
+        Long senderId = Long.valueOf(principal.getName());
+        // List 자체에 붙인 @Valid 는 원소까지 검사하지 않으므로 한 건씩 검사 (하나라도 틀리면 묶음 전체 거절)
+        for (MessageRequestDto dto : requestDtos) {
+            if (dto == null) {
+                throw new IllegalArgumentException("메시지는 비어 있을 수 없습니다.");
+            }
+            dto.setSenderId(senderId);
+            Set<ConstraintViolation<MessageRequestDto>> violations = validator.validate(dto);
+            if (!violations.isEmpty()) {
+                throw new IllegalArgumentException(violations.iterator().next().getMessage());
+            }
+        }
+        List<MessageSendResult> results = messageService.sendMessages(senderId, requestDtos);
+
+        for (MessageSendResult result : results) {
+            if (result.duplicate()) {
+                continue;
+            }
+            Message message = result.message();
+            messageDeliveryService.deliver(message.getReceiverId(), "message", message);
+            messageDeliveryService.deliver(message.getSenderId(), "message", message);
+        }
+    }
+
+    // 읽음 확인: 읽음 위치를 옮기고 상대방에게 알림
+    @MessageMapping("/message.read")
+    public void markAsRead(@Payload @Valid MessageReadDto readDto, Principal principal) {
+        Long userId = Long.valueOf(principal.getName());
+        messageService.markAsRead(userId, readDto.getOtherUserId(), readDto.getLastMessageIdx());
+
+        messageDeliveryService.deliver(readDto.getOtherUserId(), "read", ReadReceiptDto.builder()
+                .readerId(userId)
+                .otherUserId(readDto.getOtherUserId())
+                .lastMessageIdx(readDto.getLastMessageIdx())
+                .build());
+    }
+
+    // 접속 확인 (연결 중 ttl 안에 반복 전송)
+    @MessageMapping("/presence.heartbeat")
+    public void heartbeat(Principal principal) {
+        presenceService.heartbeat(Long.valueOf(principal.getName()));
+    }
+
+    // 입력 중 (대화마다 초당 전달 횟수 제한)
+    @MessageMapping("/presence.typing")
+    public void typing(@Payload @Valid TypingRequestDto typingDto, Principal principal) {
+        presenceService.typing(Long.valueOf(principal.getName()), typingDto.getOtherUserId());
+    }
+
+    // 잘못된 요청은 연결을 끊지 않고 보낸 사용자에게만 /user/queue/errors 로 알림
+    @MessageExceptionHandler({IllegalArgumentException.class, MethodArgumentNotValidException.class, MessageConversionException.class})
+    @SendToUser(destinations = "/queue/errors", broadcast = false)
+    public ErrorResponse handleInvalidMessage(Exception e) {
+        String message = "잘못된 메시지 형식입니다.";
+        if (e instanceof IllegalArgumentException) {
+            message = e.getMessage();
+        } else if (e instanceof MethodArgumentNotValidException invalid
+                && invalid.getBindingResult() != null && invalid.getBindingResult().getFieldError() != null) {
+            message = invalid.getBindingResult().getFieldError().getDefaultMessage();
+        }
+        log.debug("Rejected STOMP message: {}", message);
+        return ErrorResponse.builder()
+                .httpStatus(HttpStatus.BAD_REQUEST)
+                .message(message)
+                .localDateTime(LocalDateTime.now())
+                .build();
+    }
+}
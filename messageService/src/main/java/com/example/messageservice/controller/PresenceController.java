@@ -0,0 +1,53 @@
+package com.example.messageservice.controller;
+
+import com.example.authcommon.AuthAttributes;
+import com.example.messageservice.exception.commonException.error.UnauthorizedAccessException;
+import com.example.messageservice.service.PresenceService;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+// SSE 클라이언트용 접속 상태 / 입력 중 (WebSocket 클라이언트는 /app/presence.* 사용)
+// 브라우저만 호출하는 API 이므로 토큰이 필수이고, 경로의 userId 는 토큰 주인이어야 한다.
+@RestController
+@RequestMapping("/message/presence")
+@RequiredArgsConstructor
+public class PresenceController {
+    private final PresenceService presenceService;
+
+    // 접속 확인 (ttl 안에 반복 호출)
+    @PutMapping("/{userId}")
+    public ResponseEntity<Void> heartbeat(@PathVariable Long userId, HttpServletRequest request) {
+        presenceService.heartbeat(authenticated(request, userId));
+        return ResponseEntity.noContent().build();
+    }
+
+    @DeleteMapping("/{userId}")
+    public ResponseEntity<Void> disconnect(@PathVariable Long userId, HttpServletRequest request) {
+        presenceService.disconnect(authenticated(request, userId));
+        return ResponseEntity.noContent().build();
+    }
+
+    // 친구 등 여러 사용자의 접속 상태 구독 -> 지금 접속 중인 사용자 id 목록
+    @PostMapping("/{userId}/watch")
+    public ResponseEntity<List<Long>> watch(@PathVariable Long userId, @RequestBody List<Long> userIds,
+                                            HttpServletRequest request) {
+        return ResponseEntity.ok(presenceService.watch(authenticated(request, userId), userIds));
+    }
+
+    @PutMapping("/{userId}/typing/{otherUserId}")
+    public ResponseEntity<Void> typing(@PathVariable Long userId, @PathVariable Long otherUserId,
+                                       HttpServletRequest request) {
+        presenceService.typing(authenticated(request, userId), otherUserId);
+        return ResponseEntity.noContent().build();
+    }
+
+    private static Long authenticated(HttpServletRequest request, Long userId) {
+        return AuthAttributes.getUserId(request)
+                .filter(userId::equals)
+                .orElseThrow(UnauthorizedAccessException::new);
+    }
+}
@@ -0,0 +1,94 @@
+package com.example.messageservice.delivery;
+
+import com.example.messageservice.event.MessageDeliveryEvent;
+import com.example.messageservice.event.PresenceEvent;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Kafka backplane
+ * 인스턴스마다 다른 consumer group 으로 구독하므로 모든 인스턴스가 모든 이벤트를 받고,
+ * 수신자 세션이 있는 인스턴스만 실제로 전송한다. 실시간 전달이므로 새 group 은 latest 부터 읽는다.
+ */
+@Component
+@ConditionalOnProperty(name = "message.delivery.backplane", havingValue = "kafka")
+@RequiredArgsConstructor
+@Slf4j
+public class KafkaMessageBackplane implements MessageBackplane {
+
+    private final KafkaTemplate<String, String> kafkaTemplate;
+    private final List<SessionSink> sessionSinks;
+    private final ObjectMapper objectMapper;
+    private final ApplicationEventPublisher applicationEventPublisher;
+
+    @Value("${topics.message-delivery}")
+    private String topic;
+
+    @Value("${topics.presence}")
+    private String presenceTopic;
+
+    @Override
+    public void publish(MessageDeliveryEvent event) {
+        try {
+            kafkaTemplate.send(topic, String.valueOf(event.getTargetUserId()), objectMapper.writeValueAsString(event))
+                    .whenComplete((result, e) -> {
+                        if (e != null) {
+                            log.error("Failed to publish delivery event: userId={}", event.getTargetUserId(), e);
+                        }
+                    });
+        } catch (JsonProcessingException e) {
+            log.error("Failed to serialize delivery event: userId={}", event.getTargetUserId(), e);
+        }
+    }
+
+    @KafkaListener(topics = "${topics.message-delivery}",
+            groupId = "${spring.application.name}-delivery-${message.instance-id}",
+            properties = "auto.offset.reset=latest")
+    public void consume(String payload) {
+        try {
+            MessageDeliveryEvent event = objectMapper.readValue(payload, MessageDeliveryEvent.class);
+            for (SessionSink sink : sessionSinks) {
+                if (sink.hasSession(event.getTargetUserId())) {
+                    sink.deliverLocally(event);
+                }
+            }
+        } catch (JsonProcessingException e) {
+            log.error("Skipping malformed delivery event: {}", payload, e);
+        }
+    }
+
+    @Override
+    public void publishPresence(PresenceEvent event) {
+        try {
+            kafkaTemplate.send(presenceTopic, String.valueOf(event.getUserId()), objectMapper.writeValueAsString(event))
+                    .whenComplete((result, e) -> {
+                        if (e != null) {
+                            log.error("Failed to publish presence event: userId={}", event.getUserId(), e);
+                        }
+                    });
+        } catch (JsonProcessingException e) {
+            log.error("Failed to serialize presence event: userId={}", event.getUserId(), e);
+        }
+    }
+
+    @KafkaListener(topics = "${topics.presence}",
+            groupId = "${spring.application.name}-presence-${message.instance-id}",
+            properties = "auto.offset.reset=latest")
+    public void consumePresence(String payload) {
+        try {
+            applicationEventPublisher.publishEvent(objectMapper.readValue(payload, PresenceEvent.class));
+        } catch (JsonProcessingException e) {
+            log.error("Skipping malformed presence event: {}", payload, e);
+        }
+    }
+}
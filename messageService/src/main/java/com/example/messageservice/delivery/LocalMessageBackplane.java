@@ -0,0 +1,30 @@
+package com.example.messageservice.delivery;
+
+import com.example.messageservice.event.MessageDeliveryEvent;
+import com.example.messageservice.event.PresenceEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+// 단일 인스턴스용: 이 인스턴스의 세션으로 바로 전달
+@Component
+@ConditionalOnProperty(name = "message.delivery.backplane", havingValue = "local", matchIfMissing = true)
+@RequiredArgsConstructor
+public class LocalMessageBackplane implements MessageBackplane {
+
+    private final List<SessionSink> sessionSinks;
+    private final ApplicationEventPublisher applicationEventPublisher;
+
+    @Override
+    public void publish(MessageDeliveryEvent event) {
+        sessionSinks.forEach(sink -> sink.deliverLocally(event));
+    }
+
+    @Override
+    public void publishPresence(PresenceEvent event) {
+        applicationEventPublisher.publishEvent(event);
+    }
+}
@@ -0,0 +1,16 @@
+package com.example.messageservice.delivery;
+
+import com.example.messageservice.event.MessageDeliveryEvent;
+import com.example.messageservice.event.PresenceEvent;
+
+/**
+ * 실시간 전달 이벤트를 모든 인스턴스로 퍼뜨리는 pub/sub 통로
+ * message.delivery.backplane 으로 선택 (kafka: 여러 인스턴스, local: 단일 인스턴스/테스트)
+ */
+public interface MessageBackplane {
+
+    void publish(MessageDeliveryEvent event);
+
+    // 접속 상태는 특정 사용자가 아니라 모든 인스턴스가 받아 ApplicationEvent 로 다시 발행한다
+    void publishPresence(PresenceEvent event);
+}
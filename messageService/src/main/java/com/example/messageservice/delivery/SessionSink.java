@@ -0,0 +1,11 @@
+package com.example.messageservice.delivery;
+
+import com.example.messageservice.event.MessageDeliveryEvent;
+
+// 이 인스턴스에 연결된 클라이언트 세션 종류 (SSE, WebSocket) 별 전달 창구
+public interface SessionSink {
+
+    boolean hasSession(Long userId);
+
+    void deliverLocally(MessageDeliveryEvent event);
+}
@@ -0,0 +1,114 @@
+package com.example.messageservice.delivery;
+
+import com.example.messageservice.event.MessageDeliveryEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 이 인스턴스에 연결된 SSE 세션 목록 (사용자당 여러 탭/기기)
+ * 전송은 사용자별로 고정된 단일 스레드(stripe)에서 하므로 느린 클라이언트가 요청 스레드를 막지 않고, 사용자별 순서도 유지된다.
+ */
+@Component
+@Slf4j
+public class SseSessionRegistry implements SessionSink {
+
+    private final Map<Long, Set<SseEmitter>> sessions = new ConcurrentHashMap<>();
+    private final ThreadPoolExecutor[] stripes;
+    private final Timer deliveryLatency;
+    private final Counter droppedCounter;
+
+    public SseSessionRegistry(MeterRegistry meterRegistry,
+                              @Value("${message.delivery.threads:4}") int threads,
+                              @Value("${message.delivery.queue-capacity:1000}") int queueCapacity) {
+        this.stripes = new ThreadPoolExecutor[threads];
+        for (int i = 0; i < threads; i++) {
+            stripes[i] = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(queueCapacity));
+        }
+        this.deliveryLatency = Timer.builder("message.delivery.latency")
+                .description("Time from publish to client send")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.droppedCounter = Counter.builder("message.delivery.dropped")
+                .description("Delivery events dropped because the send queue was full")
+                .register(meterRegistry);
+    }
+
+    public SseEmitter register(Long userId) {
+        SseEmitter emitter = new SseEmitter(Long.MAX_VALUE);
+        sessions.computeIfAbsent(userId, key -> new CopyOnWriteArraySet<>()).add(emitter);
+
+        emitter.onCompletion(() -> remove(userId, emitter));
+        emitter.onTimeout(() -> remove(userId, emitter));
+        emitter.onError(e -> remove(userId, emitter));
+
+        return emitter;
+    }
+
+    @Override
+    public boolean hasSession(Long userId) {
+        return sessions.containsKey(userId);
+    }
+
+    // 이 인스턴스에 있는 해당 사용자의 모든 세션으로 비동기 전송
+    @Override
+    public void deliverLocally(MessageDeliveryEvent event) {
+        Set<SseEmitter> emitters = sessions.get(event.getTargetUserId());
+        if (emitters == null || emitters.isEmpty()) {
+            return;
+        }
+        try {
+            stripeOf(event.getTargetUserId()).execute(() -> send(event, emitters));
+        } catch (RejectedExecutionException e) {
+            droppedCounter.increment();
+            log.warn("Delivery queue is full, dropping event: userId={}", event.getTargetUserId());
+        }
+    }
+
+    private void send(MessageDeliveryEvent event, Set<SseEmitter> emitters) {
+        for (SseEmitter emitter : emitters) {
+            try {
+                emitter.send(SseEmitter.event()
+                        .name(event.getEventName())
+                        .data(event.getPayload(), MediaType.APPLICATION_JSON));
+            } catch (IOException | IllegalStateException e) {
+                remove(event.getTargetUserId(), emitter);
+            }
+        }
+        deliveryLatency.record(System.currentTimeMillis() - event.getPublishedAt(), TimeUnit.MILLISECONDS);
+    }
+
+    private void remove(Long userId, SseEmitter emitter) {
+        sessions.computeIfPresent(userId, (key, emitters) -> {
+            emitters.remove(emitter);
+            return emitters.isEmpty() ? null : emitters;
+        });
+    }
+
+    private ThreadPoolExecutor stripeOf(Long userId) {
+        return stripes[Math.floorMod(userId.hashCode(), stripes.length)];
+    }
+
+    @PreDestroy
+    void shutdown() {
+        for (ThreadPoolExecutor stripe : stripes) {
+            stripe.shutdown();
+        }
+    }
+}
@@ -0,0 +1,125 @@
+package com.example.messageservice.delivery;
+
+import com.example.messageservice.dto.response.DeliveryFrameDto;
+import com.example.messageservice.event.MessageDeliveryEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.simp.user.SimpUserRegistry;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * WebSocket(STOMP) 세션 전달
+ * 이벤트를 사용자별로 모아 두었다가 flush-interval 마다 한 프레임(배열)으로 보내 바쁜 대화에서 프레임 수를 줄인다.
+ */
+@Component
+@Slf4j
+public class StompOutboundBatcher implements SessionSink {
+
+    private static final String DESTINATION = "/queue/messages";
+
+    private final SimpMessagingTemplate messagingTemplate;
+    private final SimpUserRegistry simpUserRegistry;
+    private final Map<Long, ConcurrentLinkedQueue<MessageDeliveryEvent>> pending = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService flusher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "stomp-outbound-batcher");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final Timer deliveryLatency;
+
+    @Value("${message.websocket.flush-interval-ms:50}")
+    private long flushIntervalMs;
+
+    @Value("${message.websocket.max-batch-size:100}")
+    private int maxBatchSize;
+
+    public StompOutboundBatcher(SimpMessagingTemplate messagingTemplate,
+                                SimpUserRegistry simpUserRegistry,
+                                MeterRegistry meterRegistry) {
+        this.messagingTemplate = messagingTemplate;
+        this.simpUserRegistry = simpUserRegistry;
+        this.deliveryLatency = Timer.builder("message.delivery.latency")
+                .description("Time from publish to client send")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    void start() {
+        flusher.scheduleWithFixedDelay(this::flush, flushIntervalMs, flushIntervalMs, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    void stop() {
+        flusher.shutdown();
+        flush();
+    }
+
+    @Override
+    public boolean hasSession(Long userId) {
+        return simpUserRegistry.getUser(String.valueOf(userId)) != null;
+    }
+
+    @Override
+    public void deliverLocally(MessageDeliveryEvent event) {
+        if (!hasSession(event.getTargetUserId())) {
+            return;
+        }
+        // 큐 생성과 추가를 compute 안에서 해야 flush 가 떼어 낸 큐에 이벤트가 들어가 유실되지 않음
+        pending.compute(event.getTargetUserId(), (key, queue) -> {
+            ConcurrentLinkedQueue<MessageDeliveryEvent> target = queue != null ? queue : new ConcurrentLinkedQueue<>();
+            target.add(event);
+            return target;
+        });
+    }
+
+    private void flush() {
+        try {
+            for (Long userId : pending.keySet()) {
+                // 사용자 큐를 맵에서 떼어 낸 뒤 보냄 (이후 이벤트는 새 큐에 쌓임)
+                ConcurrentLinkedQueue<MessageDeliveryEvent> queue = pending.remove(userId);
+                if (queue == null) {
+                    continue;
+                }
+                List<MessageDeliveryEvent> batch = new ArrayList<>();
+                MessageDeliveryEvent event;
+                while ((event = queue.poll()) != null) {
+                    batch.add(event);
+                    if (batch.size() == maxBatchSize) {
+                        send(userId, batch);
+                        batch = new ArrayList<>();
+                    }
+                }
+                if (!batch.isEmpty()) {
+                    send(userId, batch);
+                }
+            }
+        } catch (RuntimeException e) {
+            log.error("STOMP outbound flush failed", e);
+        }
+    }
+
+    private void send(Long userId, List<MessageDeliveryEvent> batch) {
+        List<DeliveryFrameDto> frames = batch.stream()
+                .map(event -> new DeliveryFrameDto(event.getEventName(), event.getPayload()))
+                .toList();
+        messagingTemplate.convertAndSendToUser(String.valueOf(userId), DESTINATION, frames);
+
+        long now = System.currentTimeMillis();
+        batch.forEach(event -> deliveryLatency.record(now - event.getPublishedAt(), TimeUnit.MILLISECONDS));
+    }
+}
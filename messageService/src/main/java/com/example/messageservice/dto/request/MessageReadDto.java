@@ -0,0 +1,19 @@
+package com.example.messageservice.dto.request;
+
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// 읽음 확인 (상대방이 보낸 메시지를 lastMessageIdx 까지 읽음)
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class MessageReadDto {
+
+    @NotNull(message = "상대방 ID는 필수 값입니다.")
+    private Long otherUserId;
+
+    @NotNull(message = "마지막으로 읽은 메시지 ID는 필수 값입니다.")
+    private Long lastMessageIdx;
+}
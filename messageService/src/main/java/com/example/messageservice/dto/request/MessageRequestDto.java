@@ -19,4 +19,8 @@ public class MessageRequestDto {
     @NotBlank(message = "메시지 내용은 비어 있을 수 없습니다.")
     @Size(max = 1000, message = "메시지 내용은 최대 1000자까지 입력 가능합니다.")
     private String content;
+
+    // 재시도 중복 방지 키 (Idempotency-Key 헤더로도 전달 가능)
+    @Size(max = 64, message = "clientMessageId는 최대 64자까지 입력 가능합니다.")
+    private String clientMessageId;
 }
\ No newline at end of file
@@ -0,0 +1,16 @@
+package com.example.messageservice.dto.request;
+
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// 입력 중 알림 (otherUserId 와의 대화에서 입력 중)
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TypingRequestDto {
+
+    @NotNull(message = "상대방 ID는 필수 값입니다.")
+    private Long otherUserId;
+}
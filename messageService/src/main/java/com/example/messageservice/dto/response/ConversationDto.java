@@ -17,4 +17,5 @@ public class ConversationDto {
     private String userName;
     private String lastMessage;
     private LocalDateTime lastMessageTime;
+    private int unreadCount;
 }
\ No newline at end of file
@@ -0,0 +1,15 @@
+package com.example.messageservice.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonRawValue;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+// WebSocket 으로 묶어 보내는 이벤트 한 건 (payload 는 이미 직렬화된 JSON)
+@Data
+@AllArgsConstructor
+public class DeliveryFrameDto {
+    private String event;
+
+    @JsonRawValue
+    private String payload;
+}
@@ -0,0 +1,20 @@
+package com.example.messageservice.dto.response;
+
+import com.example.messageservice.entity.Message;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.List;
+
+// 대화 기록 한 페이지 (최신 메시지가 앞)
+@Data
+@AllArgsConstructor
+@Builder
+public class MessagePageDto {
+    private List<Message> messages;
+    private Long beforeCursor;  // 더 오래된 메시지 조회용 (before 파라미터)
+    private Long afterCursor;   // 새 메시지 조회용 (after 파라미터)
+    private boolean hasMore;    // before 방향(after 로 조회했으면 after 방향)에 메시지가 더 있는지
+    private Long otherLastReadMessageIdx;  // 상대방 읽음 위치 (내가 보낸 메시지 중 idx 가 이 값 이하면 읽음)
+}
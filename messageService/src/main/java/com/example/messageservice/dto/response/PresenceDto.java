@@ -0,0 +1,14 @@
+package com.example.messageservice.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+
+// 접속 상태 알림 (userId 가 접속/접속 종료)
+@Data
+@AllArgsConstructor
+@Builder
+public class PresenceDto {
+    private Long userId;
+    private boolean online;
+}
@@ -0,0 +1,15 @@
+package com.example.messageservice.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+
+// 읽음 확인 알림 (readerId 가 otherUserId 와의 대화를 lastMessageIdx 까지 읽음, null 이면 전체)
+@Data
+@AllArgsConstructor
+@Builder
+public class ReadReceiptDto {
+    private Long readerId;
+    private Long otherUserId;
+    private Long lastMessageIdx;
+}
@@ -0,0 +1,14 @@
+package com.example.messageservice.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+
+// 입력 중 알림 (userId 가 otherUserId 와의 대화에서 입력 중)
+@Data
+@AllArgsConstructor
+@Builder
+public class TypingDto {
+    private Long userId;
+    private Long otherUserId;
+}
@@ -0,0 +1,49 @@
+package com.example.messageservice.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+// 대화 목록 요약 (사용자마다 대화 상대별 한 행, 메시지 전송 시 같은 트랜잭션에서 갱신)
+@Entity
+@Table(
+        name = "conversation",
+        uniqueConstraints = @UniqueConstraint(name = "uk_conversation_user_other", columnNames = {"user_idx", "other_user_idx"}),
+        indexes = @Index(name = "idx_conversation_user_time", columnList = "user_idx, c_last_message_time")
+)
+@Getter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class Conversation {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "c_idx")
+    private Long idx;
+
+    @Column(name = "user_idx", nullable = false)
+    private Long userId;
+
+    @Column(name = "other_user_idx", nullable = false)
+    private Long otherUserId;
+
+    @Column(name = "c_last_message_idx", nullable = false)
+    private Long lastMessageIdx;
+
+    @Column(name = "c_last_message")
+    private String lastMessage;  // 마지막 메시지 미리보기
+
+    @Column(name = "c_last_message_time", nullable = false)
+    private LocalDateTime lastMessageTime;
+
+    @Column(name = "c_unread_count", nullable = false)
+    private int unreadCount;  // 읽음 위치 이후 받은 메시지 수
+
+    @Column(name = "c_last_read_message_idx", nullable = false, columnDefinition = "BIGINT DEFAULT 0")
+    private Long lastReadMessageIdx;  // 읽음 위치 (상대방이 보낸 메시지를 이 idx 까지 읽음)
+
+    @Column(name = "c_archived_up_to_idx", nullable = false, columnDefinition = "BIGINT DEFAULT 0")
+    private Long archivedUpToIdx;  // 이 idx 까지의 메시지는 message_archive 에 보관됨
+}
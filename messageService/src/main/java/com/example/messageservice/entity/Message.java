@@ -8,8 +8,18 @@ import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
 import java.time.LocalDateTime;
 
+/**
+ * 오래된 대화는 message_archive 로 옮겨지므로 이 테이블에는 최근 대화만 남는다.
+ * 그래도 커지면 conv_key 해시 파티션으로 나눈다. (conv_key 백필 후, 파티션 키가 PK 에 포함되어야 함)
+ * ALTER TABLE message MODIFY conv_key VARCHAR(41) NOT NULL, DROP PRIMARY KEY, ADD PRIMARY KEY (m_idx, conv_key);
+ * ALTER TABLE message PARTITION BY KEY (conv_key) PARTITIONS 16;
+ */
 @Entity
-@Table(name = "message")
+@Table(
+        name = "message",
+        indexes = @Index(name = "idx_message_conv_key_idx", columnList = "conv_key, m_idx"),
+        uniqueConstraints = @UniqueConstraint(name = "uk_message_sender_client_msg", columnNames = {"sender_idx", "client_msg_id"})
+)
 @Getter
 @Builder
 @AllArgsConstructor
@@ -28,6 +38,12 @@ public class Message {
     @Column(name = "receiver_idx", nullable = false)
     private Long receiverId;
 
+    @Column(name = "conv_key", length = 41)
+    private String convKey;  // 두 사용자 간 대화 키 (작은 id:큰 id)
+
+    @Column(name = "client_msg_id", length = 64)
+    private String clientMessageId;  // 클라이언트가 만든 전송 키 (재시도 중복 방지, 없으면 null)
+
     @Column(name = "m_content", columnDefinition = "TEXT")
     private String content;
 
@@ -38,4 +54,8 @@ public class Message {
     @CreatedDate
     @Column(name = "m_timestamp", updatable = false)
     private LocalDateTime timestamp;
+
+    public static String conversationKey(Long userId, Long otherUserId) {
+        return Math.min(userId, otherUserId) + ":" + Math.max(userId, otherUserId);
+    }
 }
@@ -0,0 +1,43 @@
+package com.example.messageservice.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+// 오래 대화가 없는 대화의 메시지를 묶어 압축 보관 (message 테이블과 인덱스를 작게 유지)
+@Entity
+@Table(
+        name = "message_archive",
+        indexes = @Index(name = "idx_message_archive_conv_key_last", columnList = "conv_key, ma_last_message_idx")
+)
+@Getter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class MessageArchive {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "ma_idx")
+    private Long idx;
+
+    @Column(name = "conv_key", nullable = false, length = 41)
+    private String convKey;
+
+    @Column(name = "ma_first_message_idx", nullable = false)
+    private Long firstMessageIdx;
+
+    @Column(name = "ma_last_message_idx", nullable = false)
+    private Long lastMessageIdx;
+
+    @Column(name = "ma_message_count", nullable = false)
+    private int messageCount;
+
+    @Lob
+    @Column(name = "ma_payload", nullable = false, columnDefinition = "LONGBLOB")
+    private byte[] payload;  // gzip 압축한 메시지 JSON 배열 (m_idx 오름차순)
+
+    @Column(name = "ma_created_at", nullable = false)
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,45 @@
+package com.example.messageservice.event;
+
+import com.example.messageservice.constant.FriendshipEventType;
+import com.example.messageservice.service.ConversationPurgeService;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+
+/**
+ * 친구 삭제 시 두 사용자 대화를 삭제 시각(occurredAt)까지 삭제
+ * 삭제가 끝난 뒤 리스너가 반환되어야 오프셋이 커밋되므로 중간에 죽어도 재전달되고, 삭제는 여러 번 해도 결과가 같다.
+ * 긴 대화 삭제가 poll 간격을 넘지 않도록 한 번에 한 건씩 가져온다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class FriendshipEventConsumer {
+
+    private final ConversationPurgeService conversationPurgeService;
+    private final ObjectMapper objectMapper;
+
+    @KafkaListener(topics = "${topics.friendship}",
+            groupId = "${spring.application.name}-friendship",
+            properties = {"max.poll.records=1", "max.poll.interval.ms=1800000"})
+    public void consume(String payload) {
+        FriendshipEvent event;
+        try {
+            event = objectMapper.readValue(payload, FriendshipEvent.class);
+        } catch (JsonProcessingException e) {
+            log.error("Skipping malformed friendship event: {}", payload, e);
+            return;
+        }
+
+        if (event.getEventType() == FriendshipEventType.DELETED) {
+            // 삭제 시각이 없는 이전 형식 이벤트는 처리 시각까지 삭제
+            LocalDateTime deletedAt = event.getOccurredAt() != null ? event.getOccurredAt() : LocalDateTime.now();
+            conversationPurgeService.purgeConversation(event.getUserId(), event.getFriendId(), deletedAt);
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package com.example.messageservice.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// 인스턴스 간 실시간 전달용 이벤트 (backplane 으로 모든 인스턴스에 전달되고, 해당 사용자 세션이 있는 인스턴스만 전송)
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class MessageDeliveryEvent {
+
+    private Long targetUserId;
+    private String eventName;     // SSE 이벤트 이름 (message 등)
+    private String payload;       // JSON 본문
+    private long publishedAt;     // 전달 지연 측정용 (epoch millis)
+}
@@ -0,0 +1,18 @@
+package com.example.messageservice.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// 접속 상태 변경 (backplane 으로 모든 인스턴스에 전달되어 각 인스턴스의 메모리 상태를 갱신, DB 에는 저장하지 않음)
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PresenceEvent {
+
+    private Long userId;
+    private boolean online;
+    private long publishedAt;     // epoch millis
+}
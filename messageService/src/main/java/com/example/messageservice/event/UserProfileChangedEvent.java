@@ -0,0 +1,22 @@
+package com.example.messageservice.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+// userService 가 닉네임/프로필 이미지 변경, 탈퇴 시 발행하는 이벤트
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserProfileChangedEvent {
+
+    private Long userId;
+    private String userName;
+    private String profileImageUrl;
+    private boolean deleted;
+    private LocalDateTime occurredAt;
+}
@@ -0,0 +1,31 @@
+package com.example.messageservice.event;
+
+import com.example.messageservice.service.UserProfileCache;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.stereotype.Component;
+
+// 프로필 변경 시 캐시 무효화 (인스턴스마다 다른 group 으로 구독해 모든 인스턴스의 캐시를 지움)
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class UserProfileEventConsumer {
+
+    private final UserProfileCache userProfileCache;
+    private final ObjectMapper objectMapper;
+
+    @KafkaListener(topics = "${topics.user-profile}",
+            groupId = "${spring.application.name}-profile-${message.instance-id}",
+            properties = "auto.offset.reset=latest")
+    public void consume(String payload) {
+        try {
+            UserProfileChangedEvent event = objectMapper.readValue(payload, UserProfileChangedEvent.class);
+            userProfileCache.invalidate(event.getUserId());
+        } catch (JsonProcessingException e) {
+            log.error("Skipping malformed user profile event: {}", payload, e);
+        }
+    }
+}
@@ -1,13 +1,17 @@
 package com.example.messageservice.feign;
 
+import com.example.authcommon.InternalAuthFeignConfiguration;
 import org.springframework.cloud.openfeign.FeignClient;
-import org.springframework.web.bind.annotation.GetMapping;
-import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 
-@FeignClient(name = "user-service", url = "${users-service-url}")
+import java.util.List;
+
+@FeignClient(name = "user-service", url = "${users-service-url}", configuration = InternalAuthFeignConfiguration.class)
 public interface UserFeignClient {
 
-    @GetMapping("/user-service/{userId}")
-    UserInfoDto getUserInfo(@PathVariable(name = "userId") Long userId);
+    // 여러 사용자 프로필 한 번에 조회
+    @PostMapping("/user-service/profiles")
+    List<UserProfileDto> getUserProfiles(@RequestBody List<Long> userIds);
 
 }
@@ -9,8 +9,8 @@ import lombok.NoArgsConstructor;
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
-public class UserInfoDto {
+public class UserProfileDto {
     private Long id;
     private String userName;
-    private String profileImage;
-}
\ No newline at end of file
+    private String profileImageUrl;
+}
@@ -0,0 +1,89 @@
+package com.example.messageservice.repository;
+
+import com.example.messageservice.entity.Conversation;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+public interface ConversationRepository extends JpaRepository<Conversation, Long> {
+
+    // 최근 대화 목록 (user_idx, c_last_message_time 인덱스 사용)
+    List<Conversation> findByUserIdOrderByLastMessageTimeDesc(Long userId, Pageable pageable);
+
+    /**
+     * 대화 요약 행 생성 또는 갱신
+     * 동시에 보낸 메시지가 역순으로 반영되지 않도록 더 최신 메시지일 때만 마지막 메시지를 바꾼다.
+     * (c_last_message_idx 는 비교에 쓰이므로 마지막에 갱신)
+     */
+    @Modifying
+    @Query(value = "INSERT INTO conversation " +
+            "(user_idx, other_user_idx, c_last_message_idx, c_last_message, c_last_message_time, c_unread_count) " +
+            "VALUES (:userId, :otherUserId, :messageIdx, :preview, :messageTime, :unreadIncrement) " +
+            "ON DUPLICATE KEY UPDATE " +
+            "c_unread_count = c_unread_count + VALUES(c_unread_count), " +
+            "c_last_message = IF(VALUES(c_last_message_idx) > c_last_message_idx, VALUES(c_last_message), c_last_message), " +
+            "c_last_message_time = IF(VALUES(c_last_message_idx) > c_last_message_idx, VALUES(c_last_message_time), c_last_message_time), " +
+            "c_last_message_idx = GREATEST(c_last_message_idx, VALUES(c_last_message_idx))", nativeQuery = true)
+    void upsert(@Param("userId") Long userId,
+                @Param("otherUserId") Long otherUserId,
+                @Param("messageIdx") Long messageIdx,
+                @Param("preview") String preview,
+                @Param("messageTime") LocalDateTime messageTime,
+                @Param("unreadIncrement") int unreadIncrement);
+
+    Optional<Conversation> findByUserIdAndOtherUserId(Long userId, Long otherUserId);
+
+    /**
+     * 읽음 위치를 앞으로만 옮기고 (대화의 마지막 메시지를 넘지 않음) 안 읽은 수를 읽음 위치 이후 받은 메시지 수로 다시 계산
+     * 백로그가 아무리 길어도 UPDATE 한 번 (c_last_read_message_idx 를 먼저 바꾸므로 COUNT 는 새 위치 기준)
+     */
+    @Modifying
+    @Query(value = "UPDATE conversation c SET " +
+            "c.c_last_read_message_idx = GREATEST(c.c_last_read_message_idx, LEAST(:lastMessageIdx, c.c_last_message_idx)), " +
+            "c.c_unread_count = (SELECT COUNT(*) FROM message m " +
+            "WHERE m.conv_key = :convKey AND m.receiver_idx = :userId AND m.m_idx > c.c_last_read_message_idx) " +
+            "WHERE c.user_idx = :userId AND c.other_user_idx = :otherUserId", nativeQuery = true)
+    int advanceReadWatermark(@Param("userId") Long userId,
+                             @Param("otherUserId") Long otherUserId,
+                             @Param("convKey") String convKey,
+                             @Param("lastMessageIdx") Long lastMessageIdx);
+
+    // 보관 대상: 오래 메시지가 없고 양쪽 모두 안 읽은 메시지가 없으며 아직 보관하지 않은 메시지가 있는 대화 (두 행 중 작은 userId 행)
+    @Query(value = "SELECT c.* FROM conversation c " +
+            "JOIN conversation o ON o.user_idx = c.other_user_idx AND o.other_user_idx = c.user_idx " +
+            "WHERE c.user_idx < c.other_user_idx AND c.c_last_message_time < :idleBefore " +
+            "AND c.c_archived_up_to_idx < c.c_last_message_idx " +
+            "AND c.c_unread_count = 0 AND o.c_unread_count = 0 " +
+            "LIMIT :limit", nativeQuery = true)
+    List<Conversation> findIdleForArchive(@Param("idleBefore") LocalDateTime idleBefore, @Param("limit") int limit);
+
+    @Modifying
+    @Query("UPDATE Conversation c SET c.archivedUpToIdx = :upToIdx " +
+            "WHERE ((c.userId = :userId AND c.otherUserId = :otherUserId) OR (c.userId = :otherUserId AND c.otherUserId = :userId)) " +
+            "AND c.archivedUpToIdx < :upToIdx")
+    int markArchived(@Param("userId") Long userId, @Param("otherUserId") Long otherUserId, @Param("upToIdx") Long upToIdx);
+
+    @Modifying
+    @Query("DELETE FROM Conversation c WHERE ((c.userId = :userId AND c.otherUserId = :friendId) OR (c.userId = :friendId AND c.otherUserId = :userId)) " +
+            "AND c.lastMessageIdx <= :upToIdx")
+    void deleteConversationsBetweenUsersUpTo(@Param("userId") Long userId, @Param("friendId") Long friendId, @Param("upToIdx") Long upToIdx);
+
+    // 기존 메시지로 대화 요약 채우기 (이미 있는 행은 건드리지 않음)
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO conversation " +
+            "(user_idx, other_user_idx, c_last_message_idx, c_last_message, c_last_message_time, c_unread_count) " +
+            "SELECT p.user_idx, p.other_user_idx, m.m_idx, LEFT(m.m_content, :previewLength), m.m_timestamp, " +
+            "(SELECT COUNT(*) FROM message u WHERE u.receiver_idx = p.user_idx AND u.sender_idx = p.other_user_idx AND u.m_status = 'UNREAD') " +
+            "FROM (SELECT t.user_idx, t.other_user_idx, MAX(t.m_idx) AS last_idx FROM (" +
+            "SELECT sender_idx AS user_idx, receiver_idx AS other_user_idx, m_idx FROM message " +
+            "UNION ALL SELECT receiver_idx, sender_idx, m_idx FROM message) t " +
+            "GROUP BY t.user_idx, t.other_user_idx) p " +
+            "JOIN message m ON m.m_idx = p.last_idx", nativeQuery = true)
+    int backfill(@Param("previewLength") int previewLength);
+}
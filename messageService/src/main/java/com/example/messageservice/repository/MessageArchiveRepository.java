@@ -0,0 +1,28 @@
+package com.example.messageservice.repository;
+
+import com.example.messageservice.entity.MessageArchive;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface MessageArchiveRepository extends JpaRepository<MessageArchive, Long> {
+
+    // before 보다 오래된 메시지가 들어 있는 묶음 (최신 묶음부터)
+    List<MessageArchive> findByConvKeyAndFirstMessageIdxLessThanOrderByLastMessageIdxDesc(String convKey, Long before, Pageable pageable);
+
+    // after 보다 새 메시지가 들어 있는 묶음 (오래된 묶음부터)
+    List<MessageArchive> findByConvKeyAndLastMessageIdxGreaterThanOrderByFirstMessageIdxAsc(String convKey, Long after, Pageable pageable);
+
+    // 주어진 시각까지 만들어진 보관 묶음의 마지막 메시지
+    @Query("SELECT MAX(a.lastMessageIdx) FROM MessageArchive a WHERE a.convKey = :convKey AND a.createdAt <= :until")
+    Long findMaxLastMessageIdxCreatedUntil(@Param("convKey") String convKey, @Param("until") LocalDateTime until);
+
+    @Modifying
+    @Query("DELETE FROM MessageArchive a WHERE a.convKey = :convKey AND a.lastMessageIdx <= :upToIdx")
+    int deleteByConvKeyUpTo(@Param("convKey") String convKey, @Param("upToIdx") Long upToIdx);
+}
@@ -1,28 +1,46 @@
 package com.example.messageservice.repository;
 
 import com.example.messageservice.entity.Message;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
 public interface MessageRepository extends JpaRepository<Message, Long> {
 
-    @Query("SELECT m FROM Message m WHERE " +
-            "(m.senderId = :userId AND m.receiverId = :otherUserId) " +
-            "OR (m.senderId = :otherUserId AND m.receiverId = :userId) " +
-            "ORDER BY m.timestamp ASC")
-    List<Message> findMessagesBetweenUsers(@Param("userId") Long userId, @Param("otherUserId") Long otherUserId);
-
-    // 최근 대화 상대 목록 조회
-    @Query("SELECT m FROM Message m WHERE m.senderId = :userId OR m.receiverId = :userId " +
-            "GROUP BY CASE WHEN m.senderId = :userId THEN m.receiverId ELSE m.senderId END, " +
-            "m.timestamp " +
-            "ORDER BY MAX(m.timestamp) DESC")
-    List<Message> findRecentConversations(@Param("userId") Long userId);
-
-    @Query("DELETE FROM Message m WHERE (m.senderId = :userId AND m.receiverId = :friendId) OR (m.senderId = :friendId AND m.receiverId = :userId)")
-    void deleteMessagesBetweenUsers(@Param("userId") Long userId, @Param("friendId") Long friendId);
+    Optional<Message> findBySenderIdAndClientMessageId(Long senderId, String clientMessageId);
+
+    // 대화 기록 keyset 페이지 조회 (conv_key, m_idx 인덱스 사용)
+    List<Message> findByConvKeyOrderByIdxDesc(String convKey, Pageable pageable);
+
+    List<Message> findByConvKeyAndIdxLessThanOrderByIdxDesc(String convKey, Long before, Pageable pageable);
+
+    List<Message> findByConvKeyAndIdxGreaterThanOrderByIdxAsc(String convKey, Long after, Pageable pageable);
+
+    // 보관(archive) 대상 메시지 청크
+    List<Message> findByConvKeyAndIdxLessThanEqualOrderByIdxAsc(String convKey, Long upToIdx, Pageable pageable);
+
+    // conv_key 도입 전 메시지 채우기 (청크 단위)
+    @Modifying
+    @Query(value = "UPDATE message SET conv_key = CONCAT(LEAST(sender_idx, receiver_idx), ':', GREATEST(sender_idx, receiver_idx)) " +
+            "WHERE conv_key IS NULL LIMIT :limit", nativeQuery = true)
+    int backfillConvKey(@Param("limit") int limit);
+
+    // 대화 삭제 기준점: 친구 삭제 시각까지 보낸 마지막 메시지
+    @Query(value = "SELECT MAX(m_idx) FROM message WHERE conv_key = :convKey AND m_timestamp <= :until", nativeQuery = true)
+    Long findMaxIdxByConvKeySentUntil(@Param("convKey") String convKey, @Param("until") LocalDateTime until);
+
+    // 대화 삭제용: 기준점까지의 메시지 PK 를 청크 단위로 조회 후 PK 로 삭제
+    @Query(value = "SELECT m_idx FROM message WHERE conv_key = :convKey AND m_idx <= :upToIdx ORDER BY m_idx LIMIT :limit", nativeQuery = true)
+    List<Long> findIdxByConvKeyUpTo(@Param("convKey") String convKey, @Param("upToIdx") Long upToIdx, @Param("limit") int limit);
+
+    @Modifying
+    @Query("DELETE FROM Message m WHERE m.idx IN :ids")
+    int deleteByIdxIn(@Param("ids") List<Long> ids);
 
 }
@@ -0,0 +1,27 @@
+package com.example.messageservice.service;
+
+import com.example.messageservice.repository.ConversationRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+// conversation 테이블 도입 전 메시지로 대화 요약 채우기 (conversation.backfill.enabled=true 로 한 번 실행)
+@Component
+@ConditionalOnProperty(name = "conversation.backfill.enabled", havingValue = "true")
+@RequiredArgsConstructor
+@Slf4j
+public class ConversationBackfillRunner implements ApplicationRunner {
+
+    private final ConversationRepository conversationRepository;
+
+    @Transactional
+    @Override
+    public void run(ApplicationArguments args) {
+        int inserted = conversationRepository.backfill(MessageServiceImpl.PREVIEW_LENGTH);
+        log.info("Conversation backfill finished: inserted={}", inserted);
+    }
+}
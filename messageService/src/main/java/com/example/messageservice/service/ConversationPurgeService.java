@@ -0,0 +1,8 @@
+package com.example.messageservice.service;
+
+import java.time.LocalDateTime;
+
+public interface ConversationPurgeService {
+
+    int purgeConversation(Long userId, Long friendId, LocalDateTime deletedAt);
+}
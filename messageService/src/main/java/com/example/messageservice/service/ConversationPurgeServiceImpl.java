@@ -0,0 +1,88 @@
+package com.example.messageservice.service;
+
+import com.example.messageservice.entity.Message;
+import com.example.messageservice.repository.ConversationRepository;
+import com.example.messageservice.repository.MessageArchiveRepository;
+import com.example.messageservice.repository.MessageRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ConversationPurgeServiceImpl implements ConversationPurgeService {
+
+    private final MessageRepository messageRepository;
+    private final ConversationRepository conversationRepository;
+    private final MessageArchiveRepository messageArchiveRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${message.purge.chunk-size:1000}")
+    private int chunkSize;
+
+    @Value("${message.purge.chunk-pause-ms:50}")
+    private long chunkPauseMs;
+
+    /**
+     * 친구 삭제 시각(deletedAt)까지의 두 사용자 간 대화 삭제
+     * 삭제 시각을 m_idx 기준점으로 바꿔 그 이하만 지우므로, 이벤트가 늦게 처리되어도 다시 친구가 된 뒤 보낸 메시지는 남는다.
+     * conv_key 로 PK 를 chunk-size 만큼 찾아 PK 로 지우고 청크마다 커밋해 잠금을 짧게 유지한다. (청크 사이 chunk-pause-ms 대기)
+     * 보관(archive)된 메시지와 대화 요약은 마지막에 함께 지운다. 이미 지운 대화를 다시 지워도 아무 일도 없다.
+     */
+    @Override
+    public int purgeConversation(Long userId, Long friendId, LocalDateTime deletedAt) {
+        String convKey = Message.conversationKey(userId, friendId);
+        Long upToIdx = watermark(convKey, deletedAt);
+        if (upToIdx == null) {
+            log.info("Nothing to purge: convKey={}, deletedAt={}", convKey, deletedAt);
+            return 0;
+        }
+
+        int total = 0;
+        while (true) {
+            Integer deleted = transactionTemplate.execute(status -> {
+                List<Long> ids = messageRepository.findIdxByConvKeyUpTo(convKey, upToIdx, chunkSize);
+                return ids.isEmpty() ? 0 : messageRepository.deleteByIdxIn(ids);
+            });
+            if (deleted == null || deleted == 0) {
+                break;
+            }
+            total += deleted;
+            if (deleted < chunkSize) {
+                break;
+            }
+            pause();
+        }
+
+        transactionTemplate.executeWithoutResult(status -> {
+            messageArchiveRepository.deleteByConvKeyUpTo(convKey, upToIdx);
+            conversationRepository.deleteConversationsBetweenUsersUpTo(userId, friendId, upToIdx);
+        });
+        log.info("Conversation purged: convKey={}, upToIdx={}, deletedMessages={}", convKey, upToIdx, total);
+        return total;
+    }
+
+    // 삭제 시각까지 보낸 메시지 / 만들어진 보관 묶음 중 가장 큰 m_idx (m_idx 는 증가만 하므로 이후 메시지는 모두 더 큼)
+    private Long watermark(String convKey, LocalDateTime deletedAt) {
+        Long messageIdx = messageRepository.findMaxIdxByConvKeySentUntil(convKey, deletedAt);
+        Long archiveIdx = messageArchiveRepository.findMaxLastMessageIdxCreatedUntil(convKey, deletedAt);
+        if (messageIdx == null) {
+            return archiveIdx;
+        }
+        return archiveIdx == null ? messageIdx : Math.max(messageIdx, archiveIdx);
+    }
+
+    private void pause() {
+        try {
+            Thread.sleep(chunkPauseMs);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
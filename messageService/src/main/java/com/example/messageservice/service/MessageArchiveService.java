@@ -0,0 +1,14 @@
+package com.example.messageservice.service;
+
+import com.example.messageservice.entity.Message;
+
+import java.util.List;
+
+public interface MessageArchiveService {
+
+    void archiveIdleConversations();
+
+    List<Message> loadBefore(String convKey, Long before, int limit);
+
+    List<Message> loadAfter(String convKey, Long after, int limit);
+}
@@ -0,0 +1,193 @@
+package com.example.messageservice.service;
+
+import com.example.messageservice.entity.Conversation;
+import com.example.messageservice.entity.Message;
+import com.example.messageservice.entity.MessageArchive;
+import com.example.messageservice.repository.ConversationRepository;
+import com.example.messageservice.repository.MessageArchiveRepository;
+import com.example.messageservice.repository.MessageRepository;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class MessageArchiveServiceImpl implements MessageArchiveService {
+
+    private static final TypeReference<List<Message>> MESSAGE_LIST = new TypeReference<>() {
+    };
+    private static final int ARCHIVE_PAGE = 4;
+
+    private final MessageRepository messageRepository;
+    private final MessageArchiveRepository messageArchiveRepository;
+    private final ConversationRepository conversationRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+
+    @Value("${message.archive.idle-days:90}")
+    private long idleDays;
+
+    @Value("${message.archive.batch-size:100}")
+    private int batchSize;
+
+    @Value("${message.archive.chunk-size:500}")
+    private int chunkSize;
+
+    @Value("${message.archive.chunk-pause-ms:50}")
+    private long chunkPauseMs;
+
+    /**
+     * idle-days 동안 메시지가 없고 양쪽 모두 안 읽은 메시지가 없는 대화를 message_archive 로 이동
+     * chunk-size 개씩 압축해 한 행으로 저장하고 원본은 PK 로 삭제한다. (청크마다 커밋)
+     * 다른 인스턴스가 같은 청크를 먼저 옮겼으면 삭제 건수가 맞지 않으므로 롤백해 중복 보관을 막는다.
+     */
+    @Scheduled(cron = "${message.archive.cron:0 0 4 * * *}")
+    @Override
+    public void archiveIdleConversations() {
+        List<Conversation> idle = conversationRepository.findIdleForArchive(LocalDateTime.now().minusDays(idleDays), batchSize);
+        int archived = 0;
+        for (Conversation conversation : idle) {
+            archived += archiveConversation(conversation);
+        }
+        log.info("Message archive finished: conversations={}, messages={}", idle.size(), archived);
+    }
+
+    private int archiveConversation(Conversation conversation) {
+        String convKey = Message.conversationKey(conversation.getUserId(), conversation.getOtherUserId());
+        Long upToIdx = conversation.getLastMessageIdx();
+
+        int total = 0;
+        while (true) {
+            Integer moved = transactionTemplate.execute(status -> {
+                List<Message> chunk = messageRepository.findByConvKeyAndIdxLessThanEqualOrderByIdxAsc(
+                        convKey, upToIdx, PageRequest.of(0, chunkSize));
+                if (chunk.isEmpty()) {
+                    return 0;
+                }
+
+                messageArchiveRepository.save(MessageArchive.builder()
+                        .convKey(convKey)
+                        .firstMessageIdx(chunk.get(0).getIdx())
+                        .lastMessageIdx(chunk.get(chunk.size() - 1).getIdx())
+                        .messageCount(chunk.size())
+                        .payload(compress(chunk))
+                        .createdAt(LocalDateTime.now())
+                        .build());
+
+                int deleted = messageRepository.deleteByIdxIn(chunk.stream().map(Message::getIdx).toList());
+                if (deleted != chunk.size()) {
+                    status.setRollbackOnly();
+                    return 0;
+                }
+                return chunk.size();
+            });
+            if (moved == null || moved == 0) {
+                break;
+            }
+            total += moved;
+            pause();
+        }
+
+        transactionTemplate.executeWithoutResult(status -> conversationRepository.markArchived(
+                conversation.getUserId(), conversation.getOtherUserId(), upToIdx));
+        return total;
+    }
+
+    // before 보다 오래된 보관 메시지를 최신순으로 limit 개 (before 가 null 이면 가장 최근부터)
+    // 묶음은 겹치지 않으므로 ARCHIVE_PAGE 개씩 읽고 마지막 묶음의 시작 idx 로 커서를 옮겨 limit 까지 채운다.
+    @Override
+    public List<Message> loadBefore(String convKey, Long before, int limit) {
+        Long cursor = before != null ? before : Long.MAX_VALUE;
+        List<Message> result = new ArrayList<>(limit);
+        while (result.size() < limit) {
+            List<MessageArchive> archives = messageArchiveRepository.findByConvKeyAndFirstMessageIdxLessThanOrderByLastMessageIdxDesc(
+                    convKey, cursor, PageRequest.of(0, ARCHIVE_PAGE));
+            for (MessageArchive archive : archives) {
+                List<Message> messages = decompress(archive.getPayload());
+                for (int i = messages.size() - 1; i >= 0 && result.size() < limit; i--) {
+                    if (messages.get(i).getIdx() < cursor) {
+                        result.add(messages.get(i));
+                    }
+                }
+                cursor = archive.getFirstMessageIdx();
+                if (result.size() >= limit) {
+                    break;
+                }
+            }
+            if (archives.size() < ARCHIVE_PAGE) {
+                break;
+            }
+        }
+        return result;
+    }
+
+    // after 보다 새 보관 메시지를 오래된 순으로 limit 개 (마지막 묶음의 끝 idx 로 커서를 옮겨 limit 까지 채움)
+    @Override
+    public List<Message> loadAfter(String convKey, Long after, int limit) {
+        Long cursor = after;
+        List<Message> result = new ArrayList<>(limit);
+        while (result.size() < limit) {
+            List<MessageArchive> archives = messageArchiveRepository.findByConvKeyAndLastMessageIdxGreaterThanOrderByFirstMessageIdxAsc(
+                    convKey, cursor, PageRequest.of(0, ARCHIVE_PAGE));
+            for (MessageArchive archive : archives) {
+                for (Message message : decompress(archive.getPayload())) {
+                    if (message.getIdx() > cursor && result.size() < limit) {
+                        result.add(message);
+                    }
+                }
+                cursor = archive.getLastMessageIdx();
+                if (result.size() >= limit) {
+                    break;
+                }
+            }
+            if (archives.size() < ARCHIVE_PAGE) {
+                break;
+            }
+        }
+        return result;
+    }
+
+    private byte[] compress(List<Message> messages) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(bytes)) {
+            objectMapper.writeValue(gzip, messages);
+        } catch (IOException e) {
+            throw new UncheckedIOException("메시지 압축 실패", e);
+        }
+        return bytes.toByteArray();
+    }
+
+    private List<Message> decompress(byte[] payload) {
+        try (GZIPInputStream gzip = new GZIPInputStream(new ByteArrayInputStream(payload))) {
+            return objectMapper.readValue(gzip, MESSAGE_LIST);
+        } catch (IOException e) {
+            // 빈 목록으로 넘기면 대화 기록이 조용히 끊기므로 오류로 올림
+            throw new UncheckedIOException("보관 메시지 읽기 실패", e);
+        }
+    }
+
+    private void pause() {
+        try {
+            Thread.sleep(chunkPauseMs);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
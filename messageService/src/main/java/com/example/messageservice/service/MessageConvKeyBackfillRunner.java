@@ -0,0 +1,36 @@
+package com.example.messageservice.service;
+
+import com.example.messageservice.repository.MessageRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+// conv_key 컬럼 도입 전 메시지 채우기 (message.conv-key-backfill.enabled=true 로 한 번 실행, 청크마다 커밋)
+@Component
+@ConditionalOnProperty(name = "message.conv-key-backfill.enabled", havingValue = "true")
+@RequiredArgsConstructor
+@Slf4j
+public class MessageConvKeyBackfillRunner implements ApplicationRunner {
+
+    private final MessageRepository messageRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${message.conv-key-backfill.chunk-size:5000}")
+    private int chunkSize;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        int total = 0;
+        Integer updated;
+        do {
+            updated = transactionTemplate.execute(status -> messageRepository.backfillConvKey(chunkSize));
+            total += updated == null ? 0 : updated;
+        } while (updated != null && updated == chunkSize);
+        log.info("Message conv_key backfill finished: updated={}", total);
+    }
+}
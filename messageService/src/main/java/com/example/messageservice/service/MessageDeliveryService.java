@@ -0,0 +1,10 @@
+package com.example.messageservice.service;
+
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+public interface MessageDeliveryService {
+
+    SseEmitter subscribe(Long userId);
+
+    void deliver(Long userId, String eventName, Object payload);
+}
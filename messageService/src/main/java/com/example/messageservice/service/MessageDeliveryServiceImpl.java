@@ -0,0 +1,42 @@
+package com.example.messageservice.service;
+
+import com.example.messageservice.delivery.MessageBackplane;
+import com.example.messageservice.delivery.SseSessionRegistry;
+import com.example.messageservice.event.MessageDeliveryEvent;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class MessageDeliveryServiceImpl implements MessageDeliveryService {
+
+    private final SseSessionRegistry sseSessionRegistry;
+    private final MessageBackplane messageBackplane;
+    private final ObjectMapper objectMapper;
+
+    // SSE 연결 (같은 사용자의 여러 탭/기기 동시 연결 가능)
+    @Override
+    public SseEmitter subscribe(Long userId) {
+        return sseSessionRegistry.register(userId);
+    }
+
+    // 사용자가 연결된 인스턴스로 전달 (backplane 발행만 하고 바로 반환)
+    @Override
+    public void deliver(Long userId, String eventName, Object payload) {
+        try {
+            messageBackplane.publish(MessageDeliveryEvent.builder()
+                    .targetUserId(userId)
+                    .eventName(eventName)
+                    .payload(objectMapper.writeValueAsString(payload))
+                    .publishedAt(System.currentTimeMillis())
+                    .build());
+        } catch (JsonProcessingException e) {
+            log.error("Failed to serialize delivery payload: userId={}, event={}", userId, eventName, e);
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package com.example.messageservice.service;
+
+import com.example.messageservice.entity.Message;
+import com.example.messageservice.repository.MessageRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * 전송 재시도 중복 확인 (sender, clientMessageId) -> 저장된 메시지 idx
+ * 최근 키는 메모리에서 바로 확인하고, 캐시에 없으면 조회 없이 먼저 저장한다.
+ * 이미 저장된 키는 (sender_idx, client_msg_id) 유니크 인덱스가 막으므로 그때만 findStored 로 기존 메시지를 찾는다.
+ */
+@Component
+public class MessageIdempotencyStore {
+
+    private final MessageRepository messageRepository;
+    private final Cache<String, Long> recentKeys;
+
+    public MessageIdempotencyStore(MessageRepository messageRepository,
+                                   @Value("${message.idempotency.max-size:100000}") long maxSize,
+                                   @Value("${message.idempotency.ttl-minutes:10}") long ttlMinutes) {
+        this.messageRepository = messageRepository;
+        this.recentKeys = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofMinutes(ttlMinutes))
+                .build();
+    }
+
+    // 최근에 이 인스턴스가 저장한 키 (캐시에 없으면 DB 를 보지 않음)
+    public Optional<Message> findRecent(Long senderId, String clientMessageId) {
+        if (clientMessageId == null) {
+            return Optional.empty();
+        }
+        Long messageIdx = recentKeys.getIfPresent(key(senderId, clientMessageId));
+        return messageIdx != null ? messageRepository.findById(messageIdx) : Optional.empty();
+    }
+
+    // 유니크 인덱스에 걸린 뒤 먼저 저장된 메시지 조회
+    public Optional<Message> findStored(Long senderId, String clientMessageId) {
+        if (clientMessageId == null) {
+            return Optional.empty();
+        }
+        return messageRepository.findBySenderIdAndClientMessageId(senderId, clientMessageId);
+    }
+
+    public void remember(Message message) {
+        if (message.getClientMessageId() != null) {
+            recentKeys.put(key(message.getSenderId(), message.getClientMessageId()), message.getIdx());
+        }
+    }
+
+    private static String key(Long senderId, String clientMessageId) {
+        return senderId + ":" + clientMessageId;
+    }
+}
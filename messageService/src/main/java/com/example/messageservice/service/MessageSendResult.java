@@ -0,0 +1,15 @@
+package com.example.messageservice.service;
+
+import com.example.messageservice.entity.Message;
+
+// 메시지 전송 결과 (duplicate 이면 같은 clientMessageId 로 이미 저장된 메시지이므로 다시 전달하지 않음)
+public record MessageSendResult(Message message, boolean duplicate) {
+
+    static MessageSendResult created(Message message) {
+        return new MessageSendResult(message, false);
+    }
+
+    static MessageSendResult duplicate(Message message) {
+        return new MessageSendResult(message, true);
+    }
+}
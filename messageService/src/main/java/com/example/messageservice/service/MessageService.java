@@ -2,17 +2,22 @@ package com.example.messageservice.service;
 
 import com.example.messageservice.dto.request.MessageRequestDto;
 import com.example.messageservice.dto.response.ConversationDto;
+import com.example.messageservice.dto.response.MessagePageDto;
 import com.example.messageservice.entity.Message;
 
 import java.util.List;
 
 public interface MessageService {
 
-    Message sendMessage(MessageRequestDto messageRequestDto);
+    MessageSendResult sendMessage(MessageRequestDto messageRequestDto);
 
-    List<Message> getMessages(Long userId, Long otherUserId);
+    List<MessageSendResult> sendMessages(Long senderId, List<MessageRequestDto> messageRequestDtos);
 
-    List<ConversationDto> getRecentConversations(Long userId);
+    int markAsRead(Long userId, Long otherUserId, Long lastMessageIdx);
+
+    MessagePageDto getMessages(Long userId, Long otherUserId, Long before, Long after, int size);
+
+    List<ConversationDto> getRecentConversations(Long userId, int page, int size);
 
     void deleteMessage(Long userId, Long friendId);
 
@@ -3,79 +3,259 @@ package com.example.messageservice.service;
 import com.example.messageservice.constant.MessageStatus;
 import com.example.messageservice.dto.request.MessageRequestDto;
 import com.example.messageservice.dto.response.ConversationDto;
+import com.example.messageservice.dto.response.MessagePageDto;
+import com.example.messageservice.entity.Conversation;
 import com.example.messageservice.entity.Message;
-import com.example.messageservice.feign.UserFeignClient;
-import com.example.messageservice.feign.UserInfoDto;
+import com.example.messageservice.feign.UserProfileDto;
+import com.example.messageservice.repository.ConversationRepository;
 import com.example.messageservice.repository.MessageRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
-import java.util.*;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
 @Service
 @RequiredArgsConstructor
 public class MessageServiceImpl implements MessageService {
+    static final int PREVIEW_LENGTH = 255;
+    private static final int MAX_PAGE_SIZE = 200;
+    private static final int MAX_SEND_BATCH_SIZE = 100;
+
     private final MessageRepository messageRepository;
-    private final UserFeignClient userFeignClient;
+    private final ConversationRepository conversationRepository;
+    private final UserProfileCache userProfileCache;
+    private final ConversationPurgeService conversationPurgeService;
+    private final MessageArchiveService messageArchiveService;
+    private final MessageIdempotencyStore messageIdempotencyStore;
+    private final TransactionTemplate transactionTemplate;
 
-    @Transactional
+    /**
+     * 메시지 전송
+     * 먼저 저장하고, clientMessageId 가 이미 저장된 키여서 유니크 인덱스에 걸리면 기존 메시지를 duplicate 로 반환한다.
+     * (첫 전송에는 조회 없이 INSERT 한 번, 최근 재시도는 메모리에서 바로 확인)
+     */
     @Override
-    public Message sendMessage(MessageRequestDto messageRequestDto) {
+    public MessageSendResult sendMessage(MessageRequestDto messageRequestDto) {
+        Long senderId = messageRequestDto.getSenderId();
+        Optional<Message> recent = messageIdempotencyStore.findRecent(senderId, messageRequestDto.getClientMessageId());
+        if (recent.isPresent()) {
+            return MessageSendResult.duplicate(recent.get());
+        }
+
+        try {
+            Message message = transactionTemplate.execute(status -> saveMessage(senderId, messageRequestDto));
+            messageIdempotencyStore.remember(message);
+            return MessageSendResult.created(message);
+        } catch (DataIntegrityViolationException e) {
+            return messageIdempotencyStore.findStored(senderId, messageRequestDto.getClientMessageId())
+                    .map(MessageSendResult::duplicate)
+                    .orElseThrow(() -> e);
+        }
+    }
+
+    /**
+     * WebSocket 으로 묶어 받은 메시지를 한 트랜잭션으로 저장
+     * 입력 한 건마다 결과 한 건을 입력 순서대로 반환한다. 같은 묶음 안에서 반복된 clientMessageId 는
+     * 앞서 나온 메시지의 duplicate 결과가 된다.
+     */
+    @Override
+    public List<MessageSendResult> sendMessages(Long senderId, List<MessageRequestDto> messageRequestDtos) {
+        if (messageRequestDtos.size() > MAX_SEND_BATCH_SIZE) {
+            throw new IllegalArgumentException("한 번에 보낼 수 있는 메시지는 최대 " + MAX_SEND_BATCH_SIZE + "건입니다.");
+        }
+
+        MessageSendResult[] results = new MessageSendResult[messageRequestDtos.size()];
+        int[] sameAs = new int[messageRequestDtos.size()];  // 같은 묶음 안의 중복이면 처음 나온 위치
+        Arrays.fill(sameAs, -1);
+        Map<String, Integer> firstIndex = new HashMap<>();
+        List<Integer> toSave = new ArrayList<>();
+        for (int i = 0; i < messageRequestDtos.size(); i++) {
+            MessageRequestDto dto = messageRequestDtos.get(i);
+            dto.setSenderId(senderId);
+            if (dto.getClientMessageId() != null) {
+                Integer first = firstIndex.putIfAbsent(dto.getClientMessageId(), i);
+                if (first != null) {
+                    sameAs[i] = first;
+                    continue;
+                }
+            }
+            Optional<Message> recent = messageIdempotencyStore.findRecent(senderId, dto.getClientMessageId());
+            if (recent.isPresent()) {
+                results[i] = MessageSendResult.duplicate(recent.get());
+            } else {
+                toSave.add(i);
+            }
+        }
+
+        // 여러 상대와의 대화 행을 한 트랜잭션에서 잠그므로 대화 키 순서로 저장 (동시 묶음 간 교착 방지)
+        // 정렬은 안정 정렬이라 같은 대화 안의 메시지 순서는 유지됨
+        List<Integer> saveOrder = toSave.stream()
+                .sorted(Comparator.comparing(i -> Message.conversationKey(senderId, messageRequestDtos.get(i).getReceiverId())))
+                .toList();
+        try {
+            List<Message> saved = transactionTemplate.execute(status -> saveOrder.stream()
+                    .map(i -> saveMessage(senderId, messageRequestDtos.get(i)))
+                    .toList());
+            for (int k = 0; k < saveOrder.size(); k++) {
+                messageIdempotencyStore.remember(saved.get(k));
+                results[saveOrder.get(k)] = MessageSendResult.created(saved.get(k));
+            }
+        } catch (DataIntegrityViolationException e) {
+            // 이미 저장된 키가 섞여 있음: 한 건씩 다시 처리
+            toSave.forEach(i -> results[i] = sendMessage(messageRequestDtos.get(i)));
+        }
+
+        for (int i = 0; i < results.length; i++) {
+            if (sameAs[i] >= 0) {
+                results[i] = MessageSendResult.duplicate(results[sameAs[i]].message());
+            }
+        }
+        return Arrays.asList(results);
+    }
 
-        return messageRepository.save(Message.builder()
-                .senderId(messageRequestDto.getSenderId())
+    private Message saveMessage(Long senderId, MessageRequestDto messageRequestDto) {
+        Message message = messageRepository.save(Message.builder()
+                .senderId(senderId)
                 .receiverId(messageRequestDto.getReceiverId())
+                .convKey(Message.conversationKey(senderId, messageRequestDto.getReceiverId()))
+                .clientMessageId(messageRequestDto.getClientMessageId())
                 .content(messageRequestDto.getContent())
                 .status(MessageStatus.UNREAD)
                 .build());
+
+        updateConversations(message);
+        return message;
     }
 
+    /**
+     * 읽음 처리: 메시지 행은 건드리지 않고 대화 요약의 읽음 위치만 UPDATE 한 번으로 옮긴다.
+     * lastMessageIdx 가 없으면 대화의 마지막 메시지까지 읽음 처리
+     * 메시지별 읽음 여부는 상대방 읽음 위치(MessagePageDto.otherLastReadMessageIdx)와 idx 비교로 판단한다.
+     */
     @Transactional
     @Override
-    public List<Message> getMessages(Long userId, Long otherUserId) {
-        // 두 사용자 간의 대화 메시지를 시간 순으로 조회
-        return messageRepository.findMessagesBetweenUsers(userId, otherUserId);
+    public int markAsRead(Long userId, Long otherUserId, Long lastMessageIdx) {
+        return conversationRepository.advanceReadWatermark(userId, otherUserId,
+                Message.conversationKey(userId, otherUserId), lastMessageIdx != null ? lastMessageIdx : Long.MAX_VALUE);
     }
 
-    @Transactional
+    // 보낸 사람 / 받는 사람 양쪽 대화 요약 갱신 (교착 상태를 피하려고 항상 작은 userId 행부터 잠금)
+    private void updateConversations(Message message) {
+        Long senderId = message.getSenderId();
+        Long receiverId = message.getReceiverId();
+        String preview = message.getContent() == null || message.getContent().length() <= PREVIEW_LENGTH
+                ? message.getContent()
+                : message.getContent().substring(0, PREVIEW_LENGTH);
+
+        if (senderId <= receiverId) {
+            conversationRepository.upsert(senderId, receiverId, message.getIdx(), preview, message.getTimestamp(), 0);
+            conversationRepository.upsert(receiverId, senderId, message.getIdx(), preview, message.getTimestamp(), 1);
+        } else {
+            conversationRepository.upsert(receiverId, senderId, message.getIdx(), preview, message.getTimestamp(), 1);
+            conversationRepository.upsert(senderId, receiverId, message.getIdx(), preview, message.getTimestamp(), 0);
+        }
+    }
+
+    /**
+     * 두 사용자 간의 대화 메시지를 최신순으로 한 페이지 조회 (m_idx 기준 keyset 페이지네이션)
+     * before: 해당 메시지보다 오래된 메시지, after: 해당 메시지보다 새 메시지, 둘 다 없으면 가장 최근 페이지
+     * 한 건 더 읽어서 다음 페이지 유무를 판단한다.
+     * message 테이블에 모자라는 만큼은 보관(archive)된 메시지에서 이어서 채운다.
+     */
+    @Transactional(readOnly = true)
     @Override
-    public List<ConversationDto> getRecentConversations(Long userId) {
-        // 최근 대화 메시지 조회
-        List<Message> recentMessages = messageRepository.findRecentConversations(userId);
-
-        // 대화 상대별로 메시지를 그룹화 및 추가 정보 조회
-        Map<Long, ConversationDto> conversationMap = new HashMap<>();
-
-        for (Message message : recentMessages) {
-            Long otherUserId = message.getSenderId().equals(userId) ? message.getReceiverId() : message.getSenderId();
-
-            if (!conversationMap.containsKey(otherUserId)) {
-                // 상대방 정보 조회 (Feign Client 사용)
-                UserInfoDto userInfo = userFeignClient.getUserInfo(otherUserId);
-
-                // ConversationDto 생성
-                conversationMap.put(otherUserId, ConversationDto.builder()
-                        .userId(userId)
-                        .otherUserId(otherUserId)
-                        .profileImage(userInfo.getProfileImage())
-                        .userName(userInfo.getUserName())
-                        .lastMessage(message.getContent())
-                        .lastMessageTime(message.getTimestamp())
-                        .build());
+    public MessagePageDto getMessages(Long userId, Long otherUserId, Long before, Long after, int size) {
+        String convKey = Message.conversationKey(userId, otherUserId);
+        size = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        PageRequest limit = PageRequest.of(0, size + 1);
+
+        List<Message> messages;
+        if (after != null) {
+            // 보관 메시지가 더 오래되었으므로 먼저 채우고 나머지를 message 테이블에서
+            messages = new ArrayList<>(messageArchiveService.loadAfter(convKey, after, size + 1));
+            if (messages.size() <= size) {
+                Long cursor = messages.isEmpty() ? after : messages.get(messages.size() - 1).getIdx();
+                messages.addAll(messageRepository.findByConvKeyAndIdxGreaterThanOrderByIdxAsc(
+                        convKey, cursor, PageRequest.of(0, size + 1 - messages.size())));
+            }
+        } else {
+            messages = new ArrayList<>(before != null
+                    ? messageRepository.findByConvKeyAndIdxLessThanOrderByIdxDesc(convKey, before, limit)
+                    : messageRepository.findByConvKeyOrderByIdxDesc(convKey, limit));
+            if (messages.size() <= size) {
+                Long cursor = messages.isEmpty() ? before : messages.get(messages.size() - 1).getIdx();
+                messages.addAll(messageArchiveService.loadBefore(convKey, cursor, size + 1 - messages.size()));
             }
         }
 
-        // 최신 메시지 기준으로 정렬
-        return new ArrayList<>(conversationMap.values())
-                .stream()
-                .sorted(Comparator.comparing(ConversationDto::getLastMessageTime).reversed())
+        boolean hasMore = messages.size() > size;
+        if (hasMore) {
+            messages.remove(messages.size() - 1);
+        }
+        if (after != null) {
+            Collections.reverse(messages);
+        }
+
+        Long otherLastReadMessageIdx = conversationRepository.findByUserIdAndOtherUserId(otherUserId, userId)
+                .map(Conversation::getLastReadMessageIdx)
+                .orElse(0L);
+
+        return MessagePageDto.builder()
+                .messages(messages)
+                .otherLastReadMessageIdx(otherLastReadMessageIdx)
+                .beforeCursor(messages.isEmpty() ? before : messages.get(messages.size() - 1).getIdx())
+                .afterCursor(messages.isEmpty() ? after : messages.get(0).getIdx())
+                .hasMore(hasMore)
+                .build();
+    }
+
+    @Transactional(readOnly = true)
+    @Override
+    public List<ConversationDto> getRecentConversations(Long userId, int page, int size) {
+        page = Math.max(0, page);
+        size = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+
+        // 대화 요약 테이블에서 최근 대화 한 페이지 조회
+        List<Conversation> conversations = conversationRepository.findByUserIdOrderByLastMessageTimeDesc(
+                userId, PageRequest.of(page, size));
+
+        // 상대방 정보는 캐시에서, 없는 사용자만 모아 한 번에 조회
+        Map<Long, UserProfileDto> profiles = userProfileCache.getAll(conversations.stream()
+                .map(Conversation::getOtherUserId)
+                .toList());
+
+        return conversations.stream()
+                .map(conversation -> {
+                    UserProfileDto profile = profiles.get(conversation.getOtherUserId());
+
+                    return ConversationDto.builder()
+                            .userId(userId)
+                            .otherUserId(conversation.getOtherUserId())
+                            .profileImage(profile != null ? profile.getProfileImageUrl() : null)
+                            .userName(profile != null ? profile.getUserName() : null)
+                            .lastMessage(conversation.getLastMessage())
+                            .lastMessageTime(conversation.getLastMessageTime())
+                            .unreadCount(conversation.getUnreadCount())
+                            .build();
+                })
                 .toList();
     }
 
-    @Transactional
+    // 청크 단위 삭제 (친구 삭제 시에는 friendship 이벤트로 같은 작업이 비동기 실행됨)
     @Override
     public void deleteMessage(Long userId, Long friendId) {
-        messageRepository.deleteMessagesBetweenUsers(userId, friendId);
+        conversationPurgeService.purgeConversation(userId, friendId, LocalDateTime.now());
     }
 }
@@ -0,0 +1,14 @@
+package com.example.messageservice.service;
+
+import java.util.List;
+
+public interface PresenceService {
+
+    void heartbeat(Long userId);
+
+    void disconnect(Long userId);
+
+    void typing(Long userId, Long otherUserId);
+
+    List<Long> watch(Long watcherId, List<Long> userIds);
+}
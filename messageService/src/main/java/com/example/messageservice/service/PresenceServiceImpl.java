@@ -0,0 +1,171 @@
+package com.example.messageservice.service;
+
+import com.example.messageservice.delivery.MessageBackplane;
+import com.example.messageservice.delivery.SessionSink;
+import com.example.messageservice.dto.response.PresenceDto;
+import com.example.messageservice.dto.response.TypingDto;
+import com.example.messageservice.event.PresenceEvent;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import com.github.benmanes.caffeine.cache.Scheduler;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.stereotype.Service;
+import org.springframework.web.socket.messaging.SessionConnectedEvent;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+
+import java.security.Principal;
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 접속 상태 / 입력 중 (메모리에만 유지하고 DB 에는 저장하지 않음)
+ * - 접속 상태는 heartbeat 가 ttl 동안 없으면 만료된다. 인스턴스마다 전체 사용자의 접속 상태를 들고 있고,
+ *   접속/재확인은 backplane 으로 ttl/2 마다 한 번만 퍼뜨린다.
+ * - 접속/종료 변화는 watch 로 등록한 사용자에게만 실시간 채널로 전달한다 (watch 를 받은 인스턴스가 전달).
+ * - 입력 중 알림은 대화(보낸 사람 -> 상대방)마다 초당 typing-per-second 번까지만 전달한다.
+ */
+@Service
+@Slf4j
+public class PresenceServiceImpl implements PresenceService {
+
+    private final MessageBackplane messageBackplane;
+    private final MessageDeliveryService messageDeliveryService;
+    private final List<SessionSink> sessionSinks;
+    private final int maxWatchSize;
+
+    private final Cache<Long, Long> onlineUsers;        // 모든 인스턴스 기준 접속 중인 사용자 -> 마지막 확인 시각
+    private final Cache<Long, Long> announcedUsers;     // 이 인스턴스가 최근에 접속을 알린 사용자
+    private final Cache<Long, Set<Long>> watchers;      // 사용자 -> 그 사용자의 접속 상태를 받을 사용자들
+    private final Cache<String, Long> typingGate;       // "보낸 사람:상대방" -> 마지막 전달 시각
+
+    public PresenceServiceImpl(MessageBackplane messageBackplane,
+                               MessageDeliveryService messageDeliveryService,
+                               List<SessionSink> sessionSinks,
+                               @Value("${message.presence.ttl-seconds:60}") long ttlSeconds,
+                               @Value("${message.presence.watch-ttl-minutes:10}") long watchTtlMinutes,
+                               @Value("${message.presence.max-watch-size:1000}") int maxWatchSize,
+                               @Value("${message.presence.max-watched-users:100000}") long maxWatchedUsers,
+                               @Value("${message.presence.typing-per-second:2}") int typingPerSecond) {
+        this.messageBackplane = messageBackplane;
+        this.messageDeliveryService = messageDeliveryService;
+        this.sessionSinks = sessionSinks;
+        this.maxWatchSize = maxWatchSize;
+
+        this.onlineUsers = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .scheduler(Scheduler.systemScheduler())
+                .<Long, Long>removalListener((userId, lastSeen, cause) -> {
+                    if (cause == RemovalCause.EXPIRED || cause == RemovalCause.EXPLICIT) {
+                        notifyWatchers(userId, false);
+                    }
+                })
+                .build();
+        this.announcedUsers = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofSeconds(Math.max(1, ttlSeconds / 2)))
+                .build();
+        // 구독 대상 사용자 수 상한 (넘으면 오래 안 쓴 구독부터 빠지고, 클라이언트가 watch 를 다시 호출하면 복구됨)
+        this.watchers = Caffeine.newBuilder()
+                .maximumSize(maxWatchedUsers)
+                .expireAfterWrite(Duration.ofMinutes(watchTtlMinutes))
+                .build();
+        this.typingGate = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofMillis(1000L / Math.max(1, typingPerSecond)))
+                .build();
+    }
+
+    // 접속 확인: 처음이거나 ttl/2 가 지났을 때만 다른 인스턴스로 알림
+    @Override
+    public void heartbeat(Long userId) {
+        long now = System.currentTimeMillis();
+        if (announcedUsers.asMap().putIfAbsent(userId, now) == null) {
+            messageBackplane.publishPresence(new PresenceEvent(userId, true, now));
+        }
+    }
+
+    @Override
+    public void disconnect(Long userId) {
+        announcedUsers.invalidate(userId);
+        messageBackplane.publishPresence(new PresenceEvent(userId, false, System.currentTimeMillis()));
+    }
+
+    @Override
+    public void typing(Long userId, Long otherUserId) {
+        heartbeat(userId);
+        if (typingGate.asMap().putIfAbsent(userId + ":" + otherUserId, System.currentTimeMillis()) == null) {
+            messageDeliveryService.deliver(otherUserId, "typing", TypingDto.builder()
+                    .userId(userId)
+                    .otherUserId(otherUserId)
+                    .build());
+        }
+    }
+
+    // 사용자들의 접속 상태 변화를 받도록 등록하고, 지금 접속 중인 사용자 목록 반환
+    @Override
+    public List<Long> watch(Long watcherId, List<Long> userIds) {
+        if (userIds.size() > maxWatchSize) {
+            throw new IllegalArgumentException("한 번에 확인할 수 있는 사용자는 최대 " + maxWatchSize + "명입니다.");
+        }
+        heartbeat(watcherId);
+        for (Long userId : userIds) {
+            watchers.asMap().compute(userId, (key, current) -> {
+                Set<Long> watcherIds = current != null ? current : ConcurrentHashMap.newKeySet();
+                watcherIds.add(watcherId);
+                return watcherIds;
+            });
+        }
+        return userIds.stream()
+                .filter(userId -> onlineUsers.getIfPresent(userId) != null)
+                .toList();
+    }
+
+    @EventListener
+    public void onPresence(PresenceEvent event) {
+        if (event.isOnline()) {
+            Long previous = onlineUsers.asMap().put(event.getUserId(), event.getPublishedAt());
+            if (previous == null) {
+                notifyWatchers(event.getUserId(), true);
+            }
+        } else {
+            onlineUsers.invalidate(event.getUserId());
+        }
+    }
+
+    @EventListener
+    public void onStompConnected(SessionConnectedEvent event) {
+        Principal user = StompHeaderAccessor.wrap(event.getMessage()).getUser();
+        if (user != null) {
+            heartbeat(Long.valueOf(user.getName()));
+        }
+    }
+
+    // 마지막 연결이 끊긴 경우만 접속 종료 (다른 인스턴스에 남은 연결은 다음 heartbeat 에서 다시 접속으로 잡힘)
+    @EventListener
+    public void onStompDisconnect(SessionDisconnectEvent event) {
+        Principal user = event.getUser();
+        if (user == null) {
+            return;
+        }
+        Long userId = Long.valueOf(user.getName());
+        if (sessionSinks.stream().noneMatch(sink -> sink.hasSession(userId))) {
+            disconnect(userId);
+        }
+    }
+
+    private void notifyWatchers(Long userId, boolean online) {
+        Set<Long> watcherIds = watchers.getIfPresent(userId);
+        if (watcherIds == null) {
+            return;
+        }
+        PresenceDto presence = PresenceDto.builder()
+                .userId(userId)
+                .online(online)
+                .build();
+        watcherIds.forEach(watcherId -> messageDeliveryService.deliver(watcherId, "presence", presence));
+    }
+}
@@ -0,0 +1,60 @@
+package com.example.messageservice.service;
+
+import com.example.messageservice.feign.UserFeignClient;
+import com.example.messageservice.feign.UserProfileDto;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * userService 프로필 near-cache
+ * 캐시에 없는 사용자만 모아 한 번의 배치 호출로 가져오고, 프로필 변경 이벤트가 오면 해당 사용자를 지운다.
+ * 이벤트를 놓쳐도 expire-minutes 가 지나면 다시 읽는다.
+ */
+@Component
+@Slf4j
+public class UserProfileCache {
+
+    private final UserFeignClient userFeignClient;
+    private final Cache<Long, UserProfileDto> cache;
+
+    public UserProfileCache(UserFeignClient userFeignClient,
+                            @Value("${message.user-profile-cache.max-size:10000}") long maxSize,
+                            @Value("${message.user-profile-cache.expire-minutes:10}") long expireMinutes) {
+        this.userFeignClient = userFeignClient;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofMinutes(expireMinutes))
+                .build();
+    }
+
+    // userService 호출이 실패하면 캐시에 있는 사용자만 반환 (대화 목록 자체는 보여줌)
+    public Map<Long, UserProfileDto> getAll(Collection<Long> userIds) {
+        try {
+            return cache.getAll(userIds, this::load);
+        } catch (RuntimeException e) {
+            log.warn("Failed to load user profiles: {}", userIds, e);
+            return new HashMap<>(cache.getAllPresent(userIds));
+        }
+    }
+
+    public void invalidate(Long userId) {
+        cache.invalidate(userId);
+    }
+
+    private Map<Long, UserProfileDto> load(Set<? extends Long> missingIds) {
+        List<UserProfileDto> profiles = userFeignClient.getUserProfiles(List.copyOf(missingIds));
+        return profiles.stream().collect(Collectors.toMap(UserProfileDto::getId, Function.identity(), (a, b) -> a));
+    }
+}
@@ -2,18 +2,22 @@ package com.example.notificationService.constant;
 
 public enum NotificationType {
 
-    FRIEND_REQUEST("FRIEND_REQUEST", "/friend/request"),   // 친구신청
-    FRIEND_ACCEPT("FRIEND_ACCEPT", "/friend/accept"),     // 친구수락
-    COMMENT("COMMENT", "/comments"),                      // 댓글
-    MESSAGE("MESSAGE", "/messages"),                      // 쪽지
-    FRIEND_NEW_POST("FRIEND_NEW_POST", "/friend/posts");  // 선택친구 새글
+    FRIEND_REQUEST("FRIEND_REQUEST", "/friend/request", "%s님이 친구 요청을 보냈습니다.", "%s님 외 %d명이 친구 요청을 보냈습니다."),   // 친구신청
+    FRIEND_ACCEPT("FRIEND_ACCEPT", "/friend/accept", "%s님이 친구 요청을 수락했습니다.", "%s님 외 %d명이 친구 요청을 수락했습니다."),     // 친구수락
+    COMMENT("COMMENT", "/comments", "%s님이 댓글을 남겼습니다.", "%s님 외 %d명이 댓글을 남겼습니다."),                      // 댓글
+    MESSAGE("MESSAGE", "/messages", "%s님이 쪽지를 보냈습니다.", "%s님 외 %d명이 쪽지를 보냈습니다."),                      // 쪽지
+    FRIEND_NEW_POST("FRIEND_NEW_POST", "/friend/posts", "%s님이 새 글을 공유했습니다.", "%s님 외 %d명이 새 글을 공유했습니다.");  // 선택친구 새글
 
     private final String alias;  // 알림 유형 이름
     private final String path;   // 알림 대상 경로
+    private final String template;  // 알림 메시지 형식 (%s = 보낸 사람)
+    private final String aggregateTemplate;  // 합쳐진 알림 메시지 형식 (%s = 마지막 보낸 사람, %d = 나머지 인원)
 
-    NotificationType(String alias, String path) {
+    NotificationType(String alias, String path, String template, String aggregateTemplate) {
         this.alias = alias;
         this.path = path;
+        this.template = template;
+        this.aggregateTemplate = aggregateTemplate;
     }
 
     public String getAlias() {
@@ -23,4 +27,12 @@ public enum NotificationType {
     public String getPath() {
         return path;
     }
-}
\ No newline at end of file
+
+    public String format(String senderName) {
+        return String.format(template, senderName);
+    }
+
+    public String format(String senderName, int others) {
+        return others > 0 ? String.format(aggregateTemplate, senderName, others) : format(senderName);
+    }
+}
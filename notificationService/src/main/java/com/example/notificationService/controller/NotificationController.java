@@ -1,13 +1,17 @@
 package com.example.notificationService.controller;
 
+import com.example.authcommon.AuthAttributes;
 import com.example.notificationService.entity.Notification;
 import com.example.notificationService.service.NotiSubscriptionService;
 import com.example.notificationService.service.NotificationService;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import io.swagger.v3.oas.annotations.Operation;
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.HashMap;
@@ -28,7 +32,9 @@ public class NotificationController {
     @GetMapping(value = "/api/subscribe", produces = "text/event-stream")
     public ResponseEntity<SseEmitter> subscribe(
             @RequestParam(value = "userName") String userName,
-            @RequestHeader(value = "Last-Event-ID", required = false, defaultValue = "") String lastEventId) {
+            @RequestHeader(value = "Last-Event-ID", required = false, defaultValue = "") String lastEventId,
+            HttpServletRequest request) {
+        checkCaller(request, userName);
         try {
             SseEmitter emitter = notiSubscriptionService.subscribe(userName, lastEventId);
             return ResponseEntity.ok(emitter);
@@ -38,11 +44,21 @@ public class NotificationController {
     }
 
     @GetMapping(value = "/initial-data")
-    public ResponseEntity<List<Notification>> getInitialNotifications(@RequestParam(value = "userName") String userName) {
+    public ResponseEntity<List<Notification>> getInitialNotifications(@RequestParam(value = "userName") String userName,
+                                                                      HttpServletRequest request) {
+        checkCaller(request, userName);
         List<Notification> notifications = notificationService.getUnreadNotifications(userName);
         return ResponseEntity.ok(notifications);
     }
 
+    // 안 읽은 알림 수 (배지)
+    @GetMapping(value = "/unread-count")
+    public ResponseEntity<Map<String, Long>> getUnreadCount(@RequestParam(value = "userName") String userName,
+                                                            HttpServletRequest request) {
+        checkCaller(request, userName);
+        return ResponseEntity.ok(Map.of("count", notificationService.getUnreadCount(userName)));
+    }
+
     @Operation(summary = "친구 신청 알림")
     @GetMapping(value = "/friend-request")
     public ResponseEntity<String> friendRequest(@RequestParam(value = "userName") String userName, @RequestParam(value = "friendName") String friendName) {
@@ -71,9 +87,34 @@ public class NotificationController {
     }
     // 알림 읽음 처리
     @PutMapping("/notifications/{id}/read")
-    public ResponseEntity<String> markNotificationAsRead(@PathVariable Long id) {
+    public ResponseEntity<String> markNotificationAsRead(@PathVariable Long id, HttpServletRequest request) {
+        String receiver = callerName(request);
+        try {
+            notificationService.markAsRead(id, receiver);
+            return ResponseEntity.ok("알림이 읽음으로 처리되었습니다.");
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        } catch (Exception e) {
+            return ResponseEntity.internalServerError().body("알림 읽음 처리 중 오류 발생");
+        }
+    }
+
+    // 모두 읽음 처리 (upToId 가 있으면 해당 id 까지만)
+    @PutMapping("/notifications/read-all")
+    public ResponseEntity<Map<String, Integer>> markAllNotificationsAsRead(@RequestParam(value = "userName") String userName,
+                                                                           @RequestParam(value = "upToId", required = false) Long upToId,
+                                                                           HttpServletRequest request) {
+        checkCaller(request, userName);
+        int updated = notificationService.markAllAsRead(userName, upToId);
+        return ResponseEntity.ok(Map.of("updated", updated));
+    }
+
+    // 알림 읽음 처리 (SSE 로 받은 notificationId 기준)
+    @PutMapping("/notifications/key/{notificationId}/read")
+    public ResponseEntity<String> markNotificationAsReadByKey(@PathVariable String notificationId, HttpServletRequest request) {
+        String receiver = callerName(request);
         try {
-            notificationService.markAsRead(id);
+            notificationService.markAsReadByNotificationId(notificationId, receiver);
             return ResponseEntity.ok("알림이 읽음으로 처리되었습니다.");
         } catch (IllegalArgumentException e) {
             return ResponseEntity.badRequest().body(e.getMessage());
@@ -81,6 +122,19 @@ public class NotificationController {
             return ResponseEntity.internalServerError().body("알림 읽음 처리 중 오류 발생");
         }
     }
+
+    // 알림은 닉네임으로 받으므로 토큰의 닉네임과 비교 (내부 인증된 서비스 간 호출은 통과)
+    private static void checkCaller(HttpServletRequest request, String userName) {
+        if (!AuthAttributes.isCallerNameOrInternal(request, userName)) {
+            throw new ResponseStatusException(HttpStatus.FORBIDDEN);
+        }
+    }
+
+    // 알림 id 로 받는 API 는 토큰의 닉네임을 수신자로 사용 (본인 알림만 처리)
+    private static String callerName(HttpServletRequest request) {
+        return AuthAttributes.getUserName(request)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.FORBIDDEN));
+    }
 }
 //    @Operation(summary = "친구 수락 알림")
 //    @GetMapping(value = "/friend-accept")
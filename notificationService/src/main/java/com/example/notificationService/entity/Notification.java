@@ -7,7 +7,12 @@ import lombok.*;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "notification")
+@Table(
+        name = "notification",
+        // 월 파티션(created_at) 때문에 유니크 키에 created_at 포함 (NotificationPartitionRepository 참고)
+        uniqueConstraints = @UniqueConstraint(name = "uk_notification_id", columnNames = {"notificationId", "createdAt"}),
+        indexes = @Index(name = "idx_notification_receiver_read_created", columnList = "receiver, readYn, createdAt")
+)
 @Getter
 @Setter
 @NoArgsConstructor
@@ -19,7 +24,7 @@ public class Notification {
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;  // 기본 키 (자동 증가)
 
-    @Column(nullable = false, unique = true)
+    @Column(nullable = false)
     private String notificationId;  // 고유 알림 식별자 (username + timestamp)
 
     @Column(nullable = false)
@@ -41,11 +46,17 @@ public class Notification {
     @Column(nullable = false, length = 1, columnDefinition = "CHAR(1) DEFAULT 'N'")
     private char deletedYn = 'N';  // 삭제 여부 ('N' 기본값)
 
+    @Builder.Default
+    @Column(nullable = false, columnDefinition = "INT DEFAULT 1")
+    private int aggregateCount = 1;  // 하나로 합쳐진 이벤트 수 ("A님 외 N명")
+
     @Column(nullable = false, updatable = false)
     private LocalDateTime createdAt;  // 생성일자
 
     @PrePersist
     protected void onCreate() {
-        this.createdAt = LocalDateTime.now();  // 자동 생성일자
+        if (this.createdAt == null) {
+            this.createdAt = LocalDateTime.now();  // 자동 생성일자 (이벤트 발생 시각이 있으면 유지)
+        }
     }
 }
\ No newline at end of file
@@ -0,0 +1,30 @@
+package com.example.notificationService.event;
+
+import com.example.notificationService.constant.NotificationType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+// 다른 서비스에서 Kafka 로 발행하는 알림 이벤트
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class NotificationEvent {
+
+    private String eventId;       // 중복 수신 방지용 고유 ID (Notification.notificationId 로 사용)
+    private NotificationType notificationType;
+
+    private Long senderId;
+    private String senderName;
+
+    private Long receiverId;
+    private String receiverName;
+
+    private Long targetId;        // 알림 대상 (게시글 등), 없으면 null
+
+    private LocalDateTime occurredAt;
+}
@@ -0,0 +1,78 @@
+package com.example.notificationService.event;
+
+import com.example.notificationService.entity.Notification;
+import com.example.notificationService.service.NotiSubscriptionService;
+import com.example.notificationService.service.NotificationService;
+import com.example.notificationService.service.NotificationWriteBuffer;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class NotificationEventConsumer {
+
+    private final NotificationService notificationService;
+    private final NotiSubscriptionService notiSubscriptionService;
+    private final NotificationWriteBuffer notificationWriteBuffer;
+    private final ObjectMapper objectMapper;
+
+    @Value("${notification.write-buffer.flush-timeout-ms:10000}")
+    private long flushTimeoutMs;
+
+    /**
+     * 알림 이벤트 일괄 수신 -> write-behind 버퍼에 저장 예약 -> 저장 완료 대기 -> SSE 전송
+     * 저장이 끝난 뒤 리스너가 반환되어야 오프셋이 커밋되므로 실패/크래시 시 재전달되고,
+     * 실제로 새로 저장됐거나 갱신된 알림만 전송하므로 저장 안 된 알림이나 재전달된 알림은 보내지 않는다.
+     */
+    @KafkaListener(topics = "${topics.notification}", batch = "true")
+    public void consume(List<String> payloads) throws InterruptedException, ExecutionException, TimeoutException {
+        List<NotificationEvent> events = new ArrayList<>(payloads.size());
+        for (String payload : payloads) {
+            try {
+                events.add(objectMapper.readValue(payload, NotificationEvent.class));
+            } catch (JsonProcessingException e) {
+                log.error("Skipping malformed notification event: {}", payload, e);
+            }
+        }
+
+        List<Notification> notifications = notificationService.createNotifications(events);
+        CompletableFuture<List<Notification>> written = notificationWriteBuffer.enqueue(notifications);
+
+        List<Notification> stored = written.get(flushTimeoutMs, TimeUnit.MILLISECONDS);
+        stored.forEach(this::push);
+        log.info("Notification events consumed: received={}, written={}", payloads.size(), stored.size());
+    }
+
+    private void push(Notification notification) {
+        try {
+            Map<String, Object> eventData = new HashMap<>();
+            eventData.put("content", notification.getContent());
+            eventData.put("timestamp", System.currentTimeMillis());
+            eventData.put("idx", notification.getId());
+            eventData.put("notificationId", notification.getNotificationId());
+            eventData.put("read", notification.getReadYn());
+            eventData.put("aggregateCount", notification.getAggregateCount());
+
+            // 합쳐진 알림은 클라이언트가 같은 notificationId 항목을 갱신하도록 update 프레임으로 전송
+            String eventName = notification.getAggregateCount() > 1 ? "notification-update" : "notification";
+            notiSubscriptionService.sendEvent(notification.getReceiver(), eventName, objectMapper.writeValueAsString(eventData));
+        } catch (JsonProcessingException e) {
+            log.error("Failed to serialize notification: {}", notification.getNotificationId(), e);
+        }
+    }
+}
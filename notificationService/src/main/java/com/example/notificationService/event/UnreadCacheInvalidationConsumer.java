@@ -0,0 +1,21 @@
+package com.example.notificationService.event;
+
+import com.example.notificationService.service.UnreadNotificationCache;
+import lombok.RequiredArgsConstructor;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.stereotype.Component;
+
+// 다른 인스턴스에서 바뀐 수신자의 안 읽은 알림 캐시 제거 (인스턴스마다 다른 group 으로 모든 인스턴스가 받음)
+@Component
+@RequiredArgsConstructor
+public class UnreadCacheInvalidationConsumer {
+
+    private final UnreadNotificationCache unreadNotificationCache;
+
+    @KafkaListener(topics = "${topics.notification-unread}",
+            groupId = "${spring.application.name}-unread-${notification.instance-id}",
+            properties = "auto.offset.reset=latest")
+    public void consume(String receiver) {
+        unreadNotificationCache.evictLocal(receiver);
+    }
+}
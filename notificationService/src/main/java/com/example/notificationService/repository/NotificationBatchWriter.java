@@ -0,0 +1,76 @@
+package com.example.notificationService.repository;
+
+import com.example.notificationService.entity.Notification;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@Repository
+@RequiredArgsConstructor
+public class NotificationBatchWriter {
+
+    private static final String INSERT_PREFIX = "INSERT INTO notification " +
+            "(notification_id, receiver, content, notification_type, url, read_yn, deleted_yn, aggregate_count, created_at) VALUES ";
+    private static final String ROW_PLACEHOLDER = "(?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    // 합쳐진 알림은 카운트가 커질 때만 내용을 바꾸고 다시 안 읽음으로 표시 (aggregate_count 는 마지막에 갱신해야 비교가 맞음)
+    private static final String UPSERT_SUFFIX = " ON DUPLICATE KEY UPDATE " +
+            "read_yn = IF(VALUES(aggregate_count) > aggregate_count, 'N', read_yn), " +
+            "content = IF(VALUES(aggregate_count) > aggregate_count, VALUES(content), content), " +
+            "aggregate_count = GREATEST(aggregate_count, VALUES(aggregate_count))";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 여러 알림을 하나의 multi-row INSERT 로 저장
+     * 이미 있는 notification_id 는 aggregate_count 가 커진 경우에만 갱신되므로 재전달된 이벤트를 다시 써도 안전하다.
+     * 반환값은 MariaDB affected rows (새 행 1, 갱신 2, 변경 없음 0 의 합)
+     */
+    public int upsert(List<Notification> notifications) {
+        if (notifications.isEmpty()) {
+            return 0;
+        }
+
+        StringBuilder sql = new StringBuilder(INSERT_PREFIX);
+        List<Object> args = new ArrayList<>(notifications.size() * 9);
+        for (int i = 0; i < notifications.size(); i++) {
+            Notification notification = notifications.get(i);
+            sql.append(i == 0 ? "" : ", ").append(ROW_PLACEHOLDER);
+            args.add(notification.getNotificationId());
+            args.add(notification.getReceiver());
+            args.add(notification.getContent());
+            args.add(notification.getNotificationType().name());
+            args.add(notification.getUrl());
+            args.add(String.valueOf(notification.getReadYn()));
+            args.add(String.valueOf(notification.getDeletedYn()));
+            args.add(notification.getAggregateCount());
+            args.add(Timestamp.valueOf(notification.getCreatedAt()));
+        }
+        sql.append(UPSERT_SUFFIX);
+        return jdbcTemplate.update(sql.toString(), args.toArray());
+    }
+
+    /**
+     * 이미 저장된 알림의 aggregate_count 조회 (notification_id -> count)
+     * upsert 전에 호출해서 실제로 새로 저장되거나 카운트가 커진 알림만 SSE 로 보낸다.
+     */
+    public Map<String, Integer> findAggregateCounts(Collection<String> notificationIds) {
+        if (notificationIds.isEmpty()) {
+            return Map.of();
+        }
+        String placeholders = String.join(", ", Collections.nCopies(notificationIds.size(), "?"));
+        Map<String, Integer> counts = new HashMap<>();
+        jdbcTemplate.query("SELECT notification_id, aggregate_count FROM notification WHERE notification_id IN (" + placeholders + ")",
+                (RowCallbackHandler) rs -> counts.merge(rs.getString(1), rs.getInt(2), Math::max),
+                notificationIds.toArray());
+        return counts;
+    }
+}
@@ -1,13 +1,55 @@
 package com.example.notificationService.repository;
 
 import com.example.notificationService.entity.Notification;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface NotificationJPARepository extends JpaRepository<Notification, Long> {
 
     List<Notification> findByReceiverAndReadYn(String receiver, char readYn);
+
+    // 읽음 처리용 (수신자 본인의 알림만 조회)
+    Optional<Notification> findByIdAndReceiver(Long id, String receiver);
+
+    Optional<Notification> findByNotificationIdAndReceiver(String notificationId, String receiver);
+
+    // 안 읽은 알림 수 / 최근 목록 (receiver, readYn, createdAt 인덱스 사용)
+    long countByReceiverAndReadYn(String receiver, char readYn);
+
+    List<Notification> findByReceiverAndReadYnOrderByCreatedAtDesc(String receiver, char readYn, Pageable pageable);
+
+    // 모두 읽음 / upToId 까지 읽음 처리 (UPDATE 한 번)
+    @Modifying
+    @Query("UPDATE Notification n SET n.readYn = :read " +
+            "WHERE n.receiver = :receiver AND n.readYn = :unread AND (:upToId IS NULL OR n.id <= :upToId)")
+    int markAllAsRead(@Param("receiver") String receiver,
+                      @Param("upToId") Long upToId,
+                      @Param("read") char read,
+                      @Param("unread") char unread);
+
+    // 보존 기간 정리: 오래된 읽은 알림 soft-delete (청크 단위, 청크마다 별도 트랜잭션)
+    @Transactional
+    @Modifying
+    @Query(value = "UPDATE notification SET deleted_yn = 'Y' " +
+            "WHERE read_yn = 'Y' AND deleted_yn = 'N' AND created_at < :before LIMIT :limit", nativeQuery = true)
+    int softDeleteReadBefore(@Param("before") LocalDateTime before, @Param("limit") int limit);
+
+    // 보존 기간 정리: soft-delete 된 알림과 최대 보존 기간이 지난 알림 삭제
+    @Transactional
+    @Modifying
+    @Query(value = "DELETE FROM notification " +
+            "WHERE (deleted_yn = 'Y' AND created_at < :purgeBefore) OR created_at < :expireBefore LIMIT :limit", nativeQuery = true)
+    int purgeBefore(@Param("purgeBefore") LocalDateTime purgeBefore,
+                    @Param("expireBefore") LocalDateTime expireBefore,
+                    @Param("limit") int limit);
 }
@@ -0,0 +1,102 @@
+package com.example.notificationService.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+
+/**
+ * notification 테이블의 월별 RANGE 파티션 관리
+ *
+ * 파티션 키(created_at)가 모든 유니크 키에 포함되어야 하므로 아래와 같이 한 번 변환해 두어야 한다.
+ * (createdAt 은 이벤트 발생 시각으로 고정되므로 재전달된 이벤트도 같은 키로 중복 제거된다)
+ *
+ * ALTER TABLE notification
+ *     DROP PRIMARY KEY, ADD PRIMARY KEY (id, created_at),
+ *     DROP INDEX UK_notification_id, ADD UNIQUE KEY uk_notification_id (notification_id, created_at);
+ * ALTER TABLE notification PARTITION BY RANGE (TO_DAYS(created_at)) (
+ *     PARTITION p202601 VALUES LESS THAN (TO_DAYS('2026-02-01')),
+ *     PARTITION pmax VALUES LESS THAN MAXVALUE
+ * );
+ */
+@Repository
+@RequiredArgsConstructor
+public class NotificationPartitionRepository {
+
+    private static final DateTimeFormatter PARTITION_NAME = DateTimeFormatter.ofPattern("'p'yyyyMM");
+    private static final String MAX_PARTITION = "pmax";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public boolean isPartitioned() {
+        Integer count = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM information_schema.PARTITIONS " +
+                        "WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'notification' AND PARTITION_NAME IS NOT NULL",
+                Integer.class);
+        return count != null && count > 0;
+    }
+
+    // 월 파티션 이름 목록 (pmax 제외)
+    public List<String> findMonthlyPartitions() {
+        return jdbcTemplate.queryForList(
+                "SELECT PARTITION_NAME FROM information_schema.PARTITIONS " +
+                        "WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'notification' " +
+                        "AND PARTITION_NAME IS NOT NULL AND PARTITION_NAME <> ? ORDER BY PARTITION_ORDINAL_POSITION",
+                String.class, MAX_PARTITION);
+    }
+
+    // month 의 파티션을 pmax 에서 분리해 추가
+    public void addMonthlyPartition(LocalDate month) {
+        LocalDate upperBound = month.withDayOfMonth(1).plusMonths(1);
+        jdbcTemplate.execute("ALTER TABLE notification REORGANIZE PARTITION " + MAX_PARTITION + " INTO (" +
+                "PARTITION " + partitionName(month) + " VALUES LESS THAN (TO_DAYS('" + upperBound + "')), " +
+                "PARTITION " + MAX_PARTITION + " VALUES LESS THAN MAXVALUE)");
+    }
+
+    public void dropPartition(String partitionName) {
+        jdbcTemplate.execute("ALTER TABLE notification DROP PARTITION " + partitionName);
+    }
+
+    /**
+     * 여러 인스턴스 중 한 곳에서만 작업을 실행 (MariaDB GET_LOCK, 이미 잡혀 있으면 바로 false)
+     * 이름 잠금은 연결에 묶이므로 잠금을 잡은 연결을 작업이 끝날 때까지 들고 있다가 풀어 준다.
+     * 인스턴스가 죽어 연결이 끊기면 잠금도 풀린다.
+     */
+    public boolean runExclusively(String lockName, Runnable job) {
+        Boolean ran = jdbcTemplate.execute((ConnectionCallback<Boolean>) con -> {
+            try (PreparedStatement lock = con.prepareStatement("SELECT GET_LOCK(?, 0)")) {
+                lock.setString(1, lockName);
+                try (ResultSet rs = lock.executeQuery()) {
+                    if (!rs.next() || rs.getInt(1) != 1) {
+                        return false;
+                    }
+                }
+            }
+            try {
+                job.run();
+                return true;
+            } finally {
+                try (PreparedStatement release = con.prepareStatement("SELECT RELEASE_LOCK(?)")) {
+                    release.setString(1, lockName);
+                    release.execute();
+                }
+            }
+        });
+        return Boolean.TRUE.equals(ran);
+    }
+
+    public static String partitionName(LocalDate month) {
+        return month.format(PARTITION_NAME);
+    }
+
+    // p202601 -> 2026-01-01
+    public static LocalDate monthOf(String partitionName) {
+        return LocalDate.parse(partitionName.substring(1) + "01", DateTimeFormatter.BASIC_ISO_DATE);
+    }
+}
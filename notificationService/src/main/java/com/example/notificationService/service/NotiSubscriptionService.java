@@ -8,4 +8,6 @@ public interface NotiSubscriptionService {
     void emitEventToClient(SseEmitter sseEmitter, String emitterId, Notification notification);
 
     void sendEvent(String friendName, String eventContent);
+
+    void sendEvent(String userName, String eventName, String eventContent);
 }
@@ -90,6 +90,12 @@ public class NotiSubscriptionServiceImpl implements NotiSubscriptionService {
      * 사용자별 이벤트 전송
      */
     public void sendEvent(String userName, String eventContent) {
+        sendEvent(userName, "notification", eventContent);
+    }
+
+    // eventName: 새 알림은 "notification", 합쳐진 알림 갱신은 "notification-update"
+    @Override
+    public void sendEvent(String userName, String eventName, String eventContent) {
         log.info("sendEvent called for user: {}, with content: {}", userName, eventContent);
 
         List<SseEmitter> emitters = notificationRepository.findAllEmittersStartsWithUsername(userName);
@@ -98,7 +104,7 @@ public class NotiSubscriptionServiceImpl implements NotiSubscriptionService {
             emitters.forEach(emitter -> {
                 try {
                     emitter.send(SseEmitter.event()
-                            .name("notification")
+                            .name(eventName)
                             .data(eventContent));
                     log.info("Event successfully sent to user: {}", userName);
                 } catch (IOException e) {
@@ -0,0 +1,103 @@
+package com.example.notificationService.service;
+
+import com.example.notificationService.constant.NotificationType;
+import com.example.notificationService.entity.Notification;
+import com.example.notificationService.event.NotificationEvent;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 같은 (수신자, 알림 유형, 대상) 이벤트를 sliding window 안에서 하나의 알림으로 합친다. ("A님 외 12명이 ...")
+ * 창 안에 들어온 이벤트는 새 행 대신 처음 만든 알림(notificationId)의 내용과 aggregateCount 를 갱신한다.
+ * 창은 마지막 이벤트 기준으로 window-seconds 만큼 연장되고, 처음 이벤트 후 max-window-minutes 가 지나면 새 알림을 만든다.
+ * 카운트는 창에 들어온 eventId 집합의 크기라서, 저장 실패로 재전달된 이벤트가 다시 와도 카운트가 늘지 않는다.
+ * 합치지 않는 알림은 (notificationId, createdAt) upsert 로 중복이 걸러진다.
+ */
+@Component
+public class NotificationAggregator {
+
+    private final Cache<String, Aggregate> aggregates;
+    private final Set<NotificationType> aggregatedTypes;
+    private final Duration maxWindow;
+
+    public NotificationAggregator(@Value("${notification.aggregation.window-seconds:300}") long windowSeconds,
+                                  @Value("${notification.aggregation.max-window-minutes:60}") long maxWindowMinutes,
+                                  @Value("${notification.aggregation.max-keys:100000}") long maxKeys,
+                                  @Value("${notification.aggregation.types:FRIEND_REQUEST,COMMENT,FRIEND_NEW_POST}") Set<NotificationType> aggregatedTypes) {
+        this.aggregatedTypes = aggregatedTypes;
+        this.maxWindow = Duration.ofMinutes(maxWindowMinutes);
+        this.aggregates = Caffeine.newBuilder()
+                .maximumSize(maxKeys)
+                .expireAfterWrite(Duration.ofSeconds(windowSeconds))
+                .build();
+    }
+
+    /**
+     * 이벤트 목록을 저장할 알림 목록으로 변환
+     * 같은 배치 안에서 여러 번 갱신된 알림은 마지막 상태 하나만 반환한다.
+     * aggregateCount 가 1 이면 새 알림, 1 보다 크면 기존 알림 갱신이다.
+     */
+    public List<Notification> aggregate(List<NotificationEvent> events) {
+        Map<String, Notification> result = new LinkedHashMap<>();
+        LocalDateTime now = LocalDateTime.now();
+
+        for (NotificationEvent event : events) {
+            // 재전달돼도 같은 (notificationId, createdAt) 이 되도록 이벤트 발생 시각 사용 (파티션 유니크 키)
+            LocalDateTime occurredAt = event.getOccurredAt() != null ? event.getOccurredAt() : now;
+
+            if (!aggregatedTypes.contains(event.getNotificationType())) {
+                Notification notification = toNotification(event.getEventId(), event, occurredAt, 1);
+                result.put(notification.getNotificationId(), notification);
+                continue;
+            }
+
+            int[] count = new int[1];
+            Aggregate aggregate = aggregates.asMap().compute(collapseKey(event), (key, current) -> {
+                Aggregate next = current;
+                if (next == null || next.firstAt().plus(maxWindow).isBefore(now)) {
+                    next = new Aggregate(event.getEventId(), occurredAt, now, new HashSet<>());
+                }
+                // compute 안에서만 수정하므로 별도 동기화 불필요
+                next.eventIds().add(event.getEventId());
+                count[0] = next.eventIds().size();
+                return next;
+            });
+            Notification notification = toNotification(aggregate.notificationId(), event, aggregate.createdAt(), count[0]);
+            result.put(notification.getNotificationId(), notification);
+        }
+        return List.copyOf(result.values());
+    }
+
+    private Notification toNotification(String notificationId, NotificationEvent event, LocalDateTime createdAt, int count) {
+        return Notification.builder()
+                .notificationId(notificationId)
+                .receiver(event.getReceiverName())
+                .content(event.getNotificationType().format(event.getSenderName(), count - 1))
+                .notificationType(event.getNotificationType())
+                .url(event.getNotificationType().getPath())
+                .readYn('N')
+                .deletedYn('N')
+                .aggregateCount(count)
+                .createdAt(createdAt)
+                .build();
+    }
+
+    // 대상이 없는 알림(친구 요청 등)은 수신자 + 유형으로 묶음
+    private static String collapseKey(NotificationEvent event) {
+        return event.getReceiverName() + ":" + event.getNotificationType() + ":"
+                + (event.getTargetId() != null ? event.getTargetId() : "");
+    }
+
+    private record Aggregate(String notificationId, LocalDateTime createdAt, LocalDateTime firstAt, Set<String> eventIds) {
+    }
+}
@@ -0,0 +1,6 @@
+package com.example.notificationService.service;
+
+public interface NotificationRetentionService {
+
+    void compact();
+}
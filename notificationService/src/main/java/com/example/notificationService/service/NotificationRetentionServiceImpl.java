@@ -0,0 +1,125 @@
+package com.example.notificationService.service;
+
+import com.example.notificationService.repository.NotificationJPARepository;
+import com.example.notificationService.repository.NotificationPartitionRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class NotificationRetentionServiceImpl implements NotificationRetentionService {
+
+    private static final String LOCK_NAME = "notification-retention-job";
+
+    private final NotificationJPARepository notificationJPARepository;
+    private final NotificationPartitionRepository notificationPartitionRepository;
+
+    @Value("${notification.retention.soft-delete-after-days:30}")
+    private long softDeleteAfterDays;
+
+    @Value("${notification.retention.purge-after-days:90}")
+    private long purgeAfterDays;
+
+    @Value("${notification.retention.max-age-days:365}")
+    private long maxAgeDays;
+
+    @Value("${notification.retention.chunk-size:5000}")
+    private int chunkSize;
+
+    @Value("${notification.retention.chunk-pause-ms:50}")
+    private long chunkPauseMs;
+
+    @Value("${notification.retention.partitions-ahead-months:3}")
+    private int partitionsAheadMonths;
+
+    /**
+     * 알림 보존 기간 정리
+     * 1. 오래된 읽은 알림 soft-delete
+     * 2. soft-delete 된 행(purge-after-days 경과)과 만료된 행(max-age-days 경과)을 청크 단위로 DELETE
+     * 3. 파티션 테이블이면 미리 다음 달 파티션을 만들고, 월 전체가 max-age-days 보다 오래된 파티션은 통째로 DROP
+     *    (안 읽은 알림도 max-age-days 까지는 남아 있어야 하므로 purge-after-days 로 DROP 하지 않음)
+     * 모든 인스턴스가 같은 cron 으로 깨어나므로 이름 잠금을 잡은 한 곳에서만 실행한다. (ALTER TABLE 동시 실행 방지)
+     */
+    @Scheduled(cron = "${notification.retention.cron:0 30 3 * * *}")
+    @Override
+    public void compact() {
+        if (!notificationPartitionRepository.runExclusively(LOCK_NAME, this::compactNow)) {
+            log.info("Notification retention skipped: running on another instance");
+        }
+    }
+
+    private void compactNow() {
+        LocalDateTime now = LocalDateTime.now();
+
+        int softDeleted = runInChunks(() ->
+                notificationJPARepository.softDeleteReadBefore(now.minusDays(softDeleteAfterDays), chunkSize));
+        log.info("Notification retention: soft-deleted {} read notifications", softDeleted);
+
+        int purged = runInChunks(() -> notificationJPARepository.purgeBefore(
+                now.minusDays(purgeAfterDays), now.minusDays(maxAgeDays), chunkSize));
+        log.info("Notification retention: purged {} notifications", purged);
+
+        if (notificationPartitionRepository.isPartitioned()) {
+            maintainPartitions(now.toLocalDate());
+        }
+    }
+
+    private void maintainPartitions(LocalDate today) {
+        List<String> partitions = notificationPartitionRepository.findMonthlyPartitions();
+
+        // 앞으로 쓸 월 파티션 미리 생성
+        LocalDate thisMonth = today.withDayOfMonth(1);
+        for (int i = 0; i <= partitionsAheadMonths; i++) {
+            LocalDate month = thisMonth.plusMonths(i);
+            if (!partitions.contains(NotificationPartitionRepository.partitionName(month))) {
+                notificationPartitionRepository.addMonthlyPartition(month);
+                log.info("Notification retention: added partition {}", NotificationPartitionRepository.partitionName(month));
+            }
+        }
+
+        // 월 전체가 max-age-days 보다 오래된 파티션 DROP
+        LocalDate dropBefore = today.minusDays(maxAgeDays);
+        for (String partition : partitions) {
+            LocalDate monthEnd = NotificationPartitionRepository.monthOf(partition).plusMonths(1);
+            if (!monthEnd.isAfter(dropBefore)) {
+                notificationPartitionRepository.dropPartition(partition);
+                log.info("Notification retention: dropped partition {}", partition);
+            }
+        }
+    }
+
+    // 잠금 시간을 짧게 유지하기 위해 청크 단위로 반복 (청크마다 별도 트랜잭션)
+    private int runInChunks(ChunkOperation operation) {
+        int total = 0;
+        int affected;
+        do {
+            affected = operation.run();
+            total += affected;
+            if (affected == chunkSize) {
+                pause();
+            }
+        } while (affected == chunkSize);
+        return total;
+    }
+
+    private void pause() {
+        try {
+            Thread.sleep(chunkPauseMs);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @FunctionalInterface
+    private interface ChunkOperation {
+        int run();
+    }
+}
@@ -2,6 +2,7 @@ package com.example.notificationService.service;
 
 
 import com.example.notificationService.entity.Notification;
+import com.example.notificationService.event.NotificationEvent;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.lang.reflect.Member;
@@ -10,7 +11,11 @@ import java.util.List;
 public interface NotificationService {
 
     Notification sendFriendRequest(String userName, String friendName);
-    void markAsRead(Long id);
+    List<Notification> createNotifications(List<NotificationEvent> events);
+    void markAsRead(Long id, String receiver);
+    void markAsReadByNotificationId(String notificationId, String receiver);
+    int markAllAsRead(String userName, Long upToId);
+    long getUnreadCount(String userName);
 //    void sendFriendAccept(String friendName, String userName);
     List<Notification> getUnreadNotifications(String userName);
     void emitAndCacheEvent(SseEmitter emitter, String key, Notification notification);
@@ -2,6 +2,7 @@ package com.example.notificationService.service;
 
 import com.example.notificationService.constant.NotificationType;
 import com.example.notificationService.entity.Notification;
+import com.example.notificationService.event.NotificationEvent;
 import com.example.notificationService.repository.NotificationJPARepository;
 import com.example.notificationService.repository.NotificationRepository;
 import com.stoyanr.evictor.map.ConcurrentMapWithTimedEvictionDecorator;
@@ -16,8 +17,6 @@ import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 import java.io.IOException;
 import java.time.LocalDateTime;
 import java.util.List;
-import java.util.Map;
-import java.util.stream.Collectors;
 
 import static org.springframework.retry.policy.TimeoutRetryPolicy.DEFAULT_TIMEOUT;
 
@@ -29,6 +28,8 @@ public class NotificationServiceImpl implements NotificationService {
     private final NotificationRepository notificationRepository;
     private final NotificationJPARepository notificationJPARepository;
     private final NotiSubscriptionService notiSubscriptionService;
+    private final UnreadNotificationCache unreadNotificationCache;
+    private final NotificationAggregator notificationAggregator;
 
     //친구 신청 알람
     @Transactional
@@ -48,15 +49,23 @@ public class NotificationServiceImpl implements NotificationService {
                 .build();
         notificationJPARepository.save(notification);
         notificationRepository.saveEventCache(emitterId, notification);
+        unreadNotificationCache.onInserted(List.of(notification));
 //        sendNotification(friendName, userName+"에게"+friendName+"님이 친구 요청을 보냈습니다", NotificationType.FRIEND_REQUEST);
         return notification;
     }
 
+    // Kafka 로 수신한 알림 이벤트를 Notification 으로 변환 (중복 eventId 제거 + 같은 대상 알림 합치기, 저장은 write-behind 버퍼가 담당)
+    @Override
+    public List<Notification> createNotifications(List<NotificationEvent> events) {
+        return notificationAggregator.aggregate(events);
+    }
+
 
     @Transactional
     @Override
-    public void markAsRead(Long id) {
-        Notification notification = notificationJPARepository.findById(id)
+    public void markAsRead(Long id, String receiver) {
+        // 다른 사람의 알림은 없는 알림과 같게 처리
+        Notification notification = notificationJPARepository.findByIdAndReceiver(id, receiver)
                 .orElseThrow(() -> new IllegalArgumentException("해당 ID의 알림을 찾을 수 없습니다. ID: " + id));
 
         if (notification.getReadYn() == 'Y') {
@@ -65,13 +74,49 @@ public class NotificationServiceImpl implements NotificationService {
 
         notification.setReadYn('Y');
         notificationJPARepository.save(notification);
+        unreadNotificationCache.onRead(notification);
+    }
+
+    // SSE 로 먼저 전달된 알림은 id 가 없으므로 notificationId 로 읽음 처리
+    @Transactional
+    @Override
+    public void markAsReadByNotificationId(String notificationId, String receiver) {
+        Notification notification = notificationJPARepository.findByNotificationIdAndReceiver(notificationId, receiver)
+                .orElseThrow(() -> new IllegalArgumentException("해당 알림을 찾을 수 없습니다. notificationId: " + notificationId));
+
+        if (notification.getReadYn() == 'Y') {
+            return;
+        }
+
+        notification.setReadYn('Y');
+        notificationJPARepository.save(notification);
+        unreadNotificationCache.onRead(notification);
+    }
+
+    // 모두 읽음 (upToId 가 있으면 해당 id 까지) - UPDATE 한 번으로 처리
+    @Transactional
+    @Override
+    public int markAllAsRead(String userName, Long upToId) {
+        int updated = notificationJPARepository.markAllAsRead(userName, upToId, 'Y', 'N');
+        if (upToId == null) {
+            unreadNotificationCache.onAllRead(userName);
+        } else {
+            unreadNotificationCache.evict(userName);
+        }
+        return updated;
+    }
+
+    @Override
+    public long getUnreadCount(String userName) {
+        return unreadNotificationCache.getUnreadCount(userName);
     }
 
 
+    // 초기 화면용 안 읽은 알림 전체 (최신순)
     @Transactional
     @Override
     public List<Notification> getUnreadNotifications(String userName) {
-        return notificationJPARepository.findByReceiverAndReadYn(userName, 'N');
+        return unreadNotificationCache.getAllUnread(userName);
     }
 
     //친구 수락
@@ -0,0 +1,193 @@
+package com.example.notificationService.service;
+
+import com.example.notificationService.entity.Notification;
+import com.example.notificationService.repository.NotificationBatchWriter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 알림 write-behind 버퍼
+ * 요청 스레드는 큐에 넣기만 하고, 전용 스레드가 flush-interval 마다 또는 batch-size 가 차면 multi-row INSERT 로 저장한다.
+ * 저장 완료는 CompletableFuture 로 알려주므로 Kafka 소비자는 저장이 끝난 뒤에 오프셋을 커밋한다 (크래시 시 재전달).
+ * future 에는 실제로 새로 저장됐거나 카운트가 커진 알림만 담기므로, 재전달/중복 이벤트는 다시 전송되지 않는다.
+ */
+@Component
+@Slf4j
+public class NotificationWriteBuffer {
+
+    private final NotificationBatchWriter notificationBatchWriter;
+    private final UnreadNotificationCache unreadNotificationCache;
+    private final BlockingQueue<PendingWrite> queue;
+    private final Timer flushTimer;
+
+    @Value("${notification.write-buffer.batch-size:500}")
+    private int batchSize;
+
+    @Value("${notification.write-buffer.flush-interval-ms:20}")
+    private long flushIntervalMs;
+
+    @Value("${notification.write-buffer.offer-timeout-ms:1000}")
+    private long offerTimeoutMs;
+
+    private volatile boolean running;
+    private Thread flusher;
+
+    public NotificationWriteBuffer(NotificationBatchWriter notificationBatchWriter,
+                                   UnreadNotificationCache unreadNotificationCache,
+                                   MeterRegistry meterRegistry,
+                                   @Value("${notification.write-buffer.capacity:10000}") int capacity) {
+        this.notificationBatchWriter = notificationBatchWriter;
+        this.unreadNotificationCache = unreadNotificationCache;
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        this.flushTimer = Timer.builder("notification.write.flush")
+                .description("Write-behind flush duration")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    void start() {
+        running = true;
+        flusher = new Thread(this::runLoop, "notification-write-buffer");
+        flusher.setDaemon(true);
+        flusher.start();
+    }
+
+    // 종료 시 남은 알림을 모두 저장
+    @PreDestroy
+    void stop() throws InterruptedException {
+        running = false;
+        flusher.interrupt();
+        flusher.join(TimeUnit.SECONDS.toMillis(10));
+        List<PendingWrite> remaining = new ArrayList<>();
+        queue.drainTo(remaining);
+        if (!remaining.isEmpty()) {
+            flush(remaining);
+        }
+    }
+
+    /**
+     * 알림 저장 예약. 반환된 future 는 모든 알림이 DB 에 저장되면 변경된 알림 목록(입력 순서)으로 완료된다.
+     * 버퍼가 가득 차 있으면 예외로 완료되어 호출한 쪽이 재시도하도록 한다.
+     */
+    public CompletableFuture<List<Notification>> enqueue(List<Notification> notifications) {
+        List<CompletableFuture<Boolean>> futures = new ArrayList<>(notifications.size());
+        for (Notification notification : notifications) {
+            PendingWrite write = new PendingWrite(notification, new CompletableFuture<>());
+            try {
+                if (!queue.offer(write, offerTimeoutMs, TimeUnit.MILLISECONDS)) {
+                    write.future().completeExceptionally(new RejectedExecutionException("Notification write buffer is full"));
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                write.future().completeExceptionally(e);
+            }
+            futures.add(write.future());
+        }
+        return CompletableFuture.allOf(futures.toArray(new CompletableFuture[0]))
+                .thenApply(ignored -> {
+                    List<Notification> changed = new ArrayList<>();
+                    for (int i = 0; i < notifications.size(); i++) {
+                        if (futures.get(i).join()) {
+                            changed.add(notifications.get(i));
+                        }
+                    }
+                    return changed;
+                });
+    }
+
+    private void runLoop() {
+        List<PendingWrite> batch = new ArrayList<>(batchSize);
+        while (running) {
+            try {
+                PendingWrite first = queue.poll(flushIntervalMs, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+
+                // flush-interval 동안 batch-size 까지 모음
+                long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(flushIntervalMs);
+                while (batch.size() < batchSize) {
+                    queue.drainTo(batch, batchSize - batch.size());
+                    long remaining = deadline - System.nanoTime();
+                    if (batch.size() >= batchSize || remaining <= 0) {
+                        break;
+                    }
+                    PendingWrite next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+
+                flush(batch);
+                batch = new ArrayList<>(batchSize);
+            } catch (InterruptedException e) {
+                // stop() 에서 깨움: 모아둔 것만 저장하고 나머지는 stop() 이 저장
+                if (!batch.isEmpty()) {
+                    flush(batch);
+                }
+                return;
+            }
+        }
+    }
+
+    private void flush(List<PendingWrite> batch) {
+        List<Notification> notifications = batch.stream().map(PendingWrite::notification).toList();
+        try {
+            List<Boolean> changed = flushTimer.recordCallable(() -> {
+                // flush 는 이 스레드 하나에서만 돌기 때문에 조회 후 upsert 사이에 같은 알림이 끼어들지 않는다
+                Map<String, Integer> existing = notificationBatchWriter.findAggregateCounts(
+                        notifications.stream().map(Notification::getNotificationId).distinct().toList());
+                List<Boolean> result = notifications.stream()
+                        .map(notification -> {
+                            Integer stored = existing.get(notification.getNotificationId());
+                            return stored == null || notification.getAggregateCount() > stored;
+                        })
+                        .toList();
+                notificationBatchWriter.upsert(notifications);
+                return result;
+            });
+            log.debug("Notification write-behind flushed: batch={}, changed={}",
+                    batch.size(), changed.stream().filter(Boolean::booleanValue).count());
+            updateUnreadCache(notifications, changed);
+            for (int i = 0; i < batch.size(); i++) {
+                batch.get(i).future().complete(changed.get(i));
+            }
+        } catch (Exception e) {
+            log.error("Notification write-behind flush failed: batch={}", batch.size(), e);
+            batch.forEach(write -> write.future().completeExceptionally(e));
+        }
+    }
+
+    // 새로 저장됐거나 카운트가 바뀐 알림의 수신자만 캐시 갱신
+    private void updateUnreadCache(List<Notification> notifications, List<Boolean> changed) {
+        List<Notification> inserted = new ArrayList<>();
+        for (int i = 0; i < notifications.size(); i++) {
+            if (changed.get(i)) {
+                inserted.add(notifications.get(i));
+            }
+        }
+        if (!inserted.isEmpty()) {
+            unreadNotificationCache.onInserted(inserted);
+        }
+    }
+
+    private record PendingWrite(Notification notification, CompletableFuture<Boolean> future) {
+    }
+}
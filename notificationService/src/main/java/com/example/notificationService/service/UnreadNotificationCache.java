@@ -0,0 +1,124 @@
+package com.example.notificationService.service;
+
+import com.example.notificationService.entity.Notification;
+import com.example.notificationService.repository.NotificationJPARepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 사용자별 안 읽은 알림 수 + 최근 안 읽은 알림 캐시
+ * 처음 조회할 때 DB 에서 읽고, 변경이 없는 동안은 배지 숫자 조회가 O(1) 이다.
+ * 저장/읽음 처리 시에는 값을 고치지 않고 해당 수신자를 무효화한 뒤 Kafka 로 다른 인스턴스에도 알린다.
+ * (인스턴스마다 캐시가 따로 있어서, 한 곳에서만 증감하면 다른 인스턴스 배지가 TTL 동안 틀린다)
+ */
+@Component
+@Slf4j
+public class UnreadNotificationCache {
+
+    private final NotificationJPARepository notificationJPARepository;
+    private final KafkaTemplate<String, String> kafkaTemplate;
+    private final Cache<String, UnreadState> cache;
+    private final int recentSize;
+
+    @Value("${topics.notification-unread}")
+    private String topic;
+
+    public UnreadNotificationCache(NotificationJPARepository notificationJPARepository,
+                                   KafkaTemplate<String, String> kafkaTemplate,
+                                   @Value("${notification.unread-cache.max-users:10000}") long maxUsers,
+                                   @Value("${notification.unread-cache.expire-minutes:10}") long expireMinutes,
+                                   @Value("${notification.unread-cache.recent-size:20}") int recentSize) {
+        this.notificationJPARepository = notificationJPARepository;
+        this.kafkaTemplate = kafkaTemplate;
+        this.recentSize = recentSize;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxUsers)
+                .expireAfterWrite(Duration.ofMinutes(expireMinutes))
+                .build();
+    }
+
+    public long getUnreadCount(String receiver) {
+        return load(receiver).count();
+    }
+
+    // 안 읽은 알림 전체 (recent-size 개 이하이면 캐시에 전부 있으므로 DB 를 다시 읽지 않음)
+    public List<Notification> getAllUnread(String receiver) {
+        UnreadState state = load(receiver);
+        if (state.count() <= state.recent().size()) {
+            return state.recent();
+        }
+        return notificationJPARepository.findByReceiverAndReadYnOrderByCreatedAtDesc(receiver, 'N', Pageable.unpaged());
+    }
+
+    // 새 알림 저장 후 호출
+    public void onInserted(Collection<Notification> notifications) {
+        Set<String> receivers = new LinkedHashSet<>();
+        notifications.forEach(notification -> receivers.add(notification.getReceiver()));
+        receivers.forEach(this::evict);
+    }
+
+    // 알림 한 건 읽음 처리 후 호출
+    public void onRead(Notification notification) {
+        evict(notification.getReceiver());
+    }
+
+    // 모두 읽음 처리 후 호출
+    public void onAllRead(String receiver) {
+        evict(receiver);
+    }
+
+    // 이 인스턴스 캐시를 지우고 다른 인스턴스에도 전파 (트랜잭션 안이면 커밋 후에, 커밋 전 값을 다시 읽어 가지 않도록)
+    public void evict(String receiver) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    invalidateAndPublish(receiver);
+                }
+            });
+        } else {
+            invalidateAndPublish(receiver);
+        }
+    }
+
+    private void invalidateAndPublish(String receiver) {
+        cache.invalidate(receiver);
+        kafkaTemplate.send(topic, receiver, receiver)
+                .whenComplete((result, e) -> {
+                    if (e != null) {
+                        log.error("Failed to publish unread cache invalidation: receiver={}", receiver, e);
+                    }
+                });
+    }
+
+    // 다른 인스턴스에서 온 무효화 (다시 전파하지 않음)
+    public void evictLocal(String receiver) {
+        cache.invalidate(receiver);
+    }
+
+    // 로딩 중에 invalidate 가 오면 Caffeine 이 로딩 완료 후 제거하므로 이전 값이 남지 않는다
+    private UnreadState load(String receiver) {
+        return cache.get(receiver, key -> new UnreadState(
+                notificationJPARepository.countByReceiverAndReadYn(key, 'N'),
+                List.copyOf(notificationJPARepository.findByReceiverAndReadYnOrderByCreatedAtDesc(
+                        key, 'N', PageRequest.of(0, recentSize)))
+        ));
+    }
+
+    private record UnreadState(long count, List<Notification> recent) {
+    }
+}
@@ -1,5 +1,6 @@
 package com.example.userservice.conf;
 
+import com.example.authcommon.JwtTokenVerifier;
 import com.example.userservice.security.filter.JwtAuthenticationFilter;
 import com.example.userservice.security.providers.JwtTokenProvider;
 import lombok.extern.slf4j.Slf4j;
@@ -27,10 +28,12 @@ public class SecurityConfig {
 
     private final List<String> allowedOrigins;
     private final JwtTokenProvider jwtTokenProvider;
+    private final JwtTokenVerifier jwtTokenVerifier;
     private final Environment environment;
 
-    public SecurityConfig(JwtTokenProvider jwtTokenProvider, Environment environment) {
+    public SecurityConfig(JwtTokenProvider jwtTokenProvider, JwtTokenVerifier jwtTokenVerifier, Environment environment) {
         this.jwtTokenProvider = jwtTokenProvider;
+        this.jwtTokenVerifier = jwtTokenVerifier;
         this.environment = environment;
         String[] origins = environment.getProperty("cors.allowed-origins", String[].class);
         if (origins != null) {
@@ -50,7 +53,7 @@ public class SecurityConfig {
                         .requestMatchers("/**").permitAll()
                         .anyRequest().authenticated()
                 )
-                .addFilterBefore(new JwtAuthenticationFilter(jwtTokenProvider), UsernamePasswordAuthenticationFilter.class)
+                .addFilterBefore(new JwtAuthenticationFilter(jwtTokenProvider, jwtTokenVerifier), UsernamePasswordAuthenticationFilter.class)
                 .cors(cors -> cors.configurationSource(request -> {
                     CorsConfiguration configuration = new CorsConfiguration();
                     configuration.setAllowedOrigins(allowedOrigins);
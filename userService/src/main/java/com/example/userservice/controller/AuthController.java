@@ -1,32 +1,32 @@
 package com.example.userservice.controller;
 
-import com.example.userservice.constant.Provider;
 import com.example.userservice.dto.request.KakaoUserInfoDto;
 import com.example.userservice.dto.request.LoginRequestDto;
+import com.example.userservice.dto.request.TokenRefreshRequestDto;
 import com.example.userservice.dto.request.UserRequestInsertDto;
 import com.example.userservice.dto.response.LoginResponseDto;
+import com.example.userservice.dto.response.SessionResponseDto;
+import com.example.userservice.dto.response.TokenResponseDto;
 import com.example.userservice.entity.User;
 import com.example.userservice.security.CustomUserDetails;
 import com.example.userservice.service.KakaoLoginService;
 import com.example.userservice.service.LoginService;
-import com.example.userservice.service.UserDetailsServiceImpl;
 import com.example.userservice.service.UserService;
 import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.authentication.AuthenticationManager;
-import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.validation.BindingResult;
 import org.springframework.validation.FieldError;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 @Slf4j
 @RestController
@@ -35,10 +35,8 @@ import java.util.List;
 @CrossOrigin
 public class AuthController {
 
-    private final AuthenticationManager authenticationManager;
     private final UserService userService;
     private final LoginService loginService;
-    private final UserDetailsServiceImpl userDetailsServiceImpl;
     private final KakaoLoginService kakaoLoginService;
 
 
@@ -60,40 +58,62 @@ public class AuthController {
     }
 
 
+    // 비밀번호 검증은 해시 전용 풀에서 돌고, 요청 스레드는 바로 반환됨
     @PostMapping("/login")
-    public ResponseEntity<LoginResponseDto> login(@RequestBody LoginRequestDto requestDto) {
-        log.error(requestDto.toString());
-        Authentication authentication = authenticationManager.authenticate(
-                new UsernamePasswordAuthenticationToken(requestDto.getEmail(), requestDto.getPassword())
-        );
-        SecurityContextHolder.getContext().setAuthentication(authentication);
-
-        CustomUserDetails userDetails = (CustomUserDetails) authentication.getPrincipal();
-        userDetails = (CustomUserDetails) userDetailsServiceImpl.loadUserByUsername(userDetails.getEmail());
-        User user = new User();
-        user.setIdx(userDetails.getIdx());
-        user.setEmail(userDetails.getEmail());
-        user.setPassword(userDetails.getPassword());
-        user.setUserName(userDetails.getUserName());
-        user.setProfileImage(userDetails.getProfileImage());
-        user.setProvider(Provider.LOCAL);
-
-        LoginResponseDto responseDto = loginService.generateAndSaveTokens(user);
-        System.out.println(responseDto);
-
-        return ResponseEntity.ok(responseDto);
+    public CompletableFuture<ResponseEntity<LoginResponseDto>> login(@RequestBody LoginRequestDto requestDto,
+                                                                     @RequestHeader(value = "User-Agent", required = false) String userAgent,
+                                                                     HttpServletRequest request) {
+        return loginService.login(requestDto.getEmail(), requestDto.getPassword(), clientIp(request), userAgent)
+                .thenApply(ResponseEntity::ok);
+    }
+
+
+    // 액세스/리프레시 토큰 재발급 (리프레시 토큰은 1회용)
+    @PostMapping("/refresh")
+    public ResponseEntity<TokenResponseDto> refresh(@Valid @RequestBody TokenRefreshRequestDto requestDto) {
+        return ResponseEntity.ok(loginService.refresh(requestDto.getRefreshToken()));
+    }
+
+    // 로그인된 기기 목록
+    @GetMapping("/sessions")
+    public ResponseEntity<List<SessionResponseDto>> getSessions(@AuthenticationPrincipal CustomUserDetails userDetails,
+                                                                @RequestHeader(name = "Authorization") String token) {
+        if (userDetails == null) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+        String currentSessionId = loginService.getSessionId(token.replace("Bearer ", ""));
+        return ResponseEntity.ok(loginService.getSessions(userDetails.getIdx(), currentSessionId));
+    }
+
+    // 특정 기기 로그아웃
+    @DeleteMapping("/sessions/{sessionId}")
+    public ResponseEntity<Void> endSession(@AuthenticationPrincipal CustomUserDetails userDetails,
+                                           @PathVariable(name = "sessionId") String sessionId) {
+        if (userDetails == null) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+        loginService.endSession(userDetails.getIdx(), sessionId);
+        return ResponseEntity.noContent().build();
+    }
+
+    // 로그아웃: 현재 액세스 토큰 폐기, 세션 삭제
+    @PostMapping("/logout")
+    public ResponseEntity<Void> logout(@RequestHeader(name = "Authorization") String token) {
+        loginService.logout(token.replace("Bearer ", ""));
+        return ResponseEntity.noContent().build();
     }
 
 
     @GetMapping("/kakao/login")
-    public ResponseEntity<LoginResponseDto> kakaoLogin(@RequestParam(value = "code") String code) {
+    public ResponseEntity<LoginResponseDto> kakaoLogin(@RequestParam(value = "code") String code,
+                                                       @RequestHeader(value = "User-Agent", required = false) String userAgent) {
         String accessToken = kakaoLoginService.getKakaoAccessToken(code);
 
         KakaoUserInfoDto kakaoUserInfo = kakaoLoginService.getKakaoUserInfo(accessToken);
         User user = kakaoLoginService.createKakaoUser(kakaoUserInfo, code);
 
-        // JWT 생성 및 저장
-        LoginResponseDto responseDto = loginService.generateAndSaveTokens(user);
+        // JWT 생성 및 세션 저장
+        LoginResponseDto responseDto = loginService.generateAndSaveTokens(user, userAgent);
 
         //카카오 토큰 클라이언트쪽에 저장
         Cookie cookie = new Cookie("kakaoAccessToken", accessToken);
@@ -113,4 +133,10 @@ public class AuthController {
 
         return new ResponseEntity<>(responseDto, headers, HttpStatus.OK);
     }
+
+    // X-Forwarded-For 는 Tomcat RemoteIpValve 가 신뢰하는 프록시(server.tomcat.remoteip.internal-proxies)만 건너뛰고
+    // 실제 클라이언트 주소로 바꿔 둔다. 헤더 첫 값은 클라이언트가 마음대로 넣을 수 있으므로 직접 읽지 않는다.
+    private String clientIp(HttpServletRequest request) {
+        return request.getRemoteAddr();
+    }
 }
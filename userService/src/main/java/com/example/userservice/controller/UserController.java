@@ -2,16 +2,21 @@ package com.example.userservice.controller;
 
 import com.example.userservice.dto.request.UserInfoDto;
 import com.example.userservice.dto.request.UserRequestUpdateDto;
+import com.example.userservice.dto.request.UserSearchRequestDto;
+import com.example.userservice.dto.response.UserProfileDto;
 import com.example.userservice.dto.response.UserSearchResponseDto;
 import com.example.userservice.service.ImageService;
 import com.example.userservice.service.UserService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.util.DigestUtils;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 
 @RestController
@@ -64,6 +69,12 @@ public class UserController {
         return userService.searchUserByUserName(userName, friendIds);
     }
 
+    // 유저 검색 (제외 목록이 길어도 되도록 POST body, 결과는 순위순 page 단위)
+    @PostMapping(value = "/search")
+    public List<UserSearchResponseDto> searchUsers(@RequestBody UserSearchRequestDto userSearchRequestDto) {
+        return userService.searchUsers(userSearchRequestDto);
+    }
+
     // 친구 요청 목록 조회
     @GetMapping(value = "/request")
     private List<UserSearchResponseDto> friendRequestList(@RequestParam List<Long> friendId){
@@ -83,11 +94,34 @@ public class UserController {
         return ResponseEntity.ok(userInfo);
     }
 
+    // 여러 사용자 프로필 한 번에 조회(Feign)
+    // 응답 내용으로 ETag 를 만들고, If-None-Match 가 같으면 본문 없이 304 반환
+    // ETag 는 조회 후에 계산하므로 줄어드는 것은 응답 본문뿐이다. 지금 Feign 호출은 If-None-Match 를 보내지 않으므로
+    // 조건부 요청을 보내는 호출(브라우저, 게이트웨이 캐시)에만 효과가 있다. (messageService 는 프로필 캐시로 호출 자체를 줄임)
+    @PostMapping("/profiles")
+    public ResponseEntity<List<UserProfileDto>> getUserProfiles(@RequestBody List<Long> userIds,
+                                                                @RequestHeader(name = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        List<UserProfileDto> profiles = userService.getUserProfiles(userIds);
+        String eTag = profilesETag(profiles);
+        if (ifNoneMatch != null && ifNoneMatch.replace("W/", "").contains(eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+        }
+        return ResponseEntity.ok().eTag(eTag).body(profiles);
+    }
 
     // userName 조회(Feign)
     @GetMapping("/name/{userIdx}")
     public String getUserName(@PathVariable(name = "userIdx") Long userIdx){
         return userService.getUserName(userIdx);
     }
-}
 
+    private static String profilesETag(List<UserProfileDto> profiles) {
+        StringBuilder content = new StringBuilder();
+        for (UserProfileDto profile : profiles) {
+            content.append(profile.getId()).append('|')
+                    .append(profile.getUserName()).append('|')
+                    .append(profile.getProfileImageUrl()).append('\n');
+        }
+        return "\"" + DigestUtils.md5DigestAsHex(content.toString().getBytes(StandardCharsets.UTF_8)) + "\"";
+    }
+}
@@ -0,0 +1,14 @@
+package com.example.userservice.dto.request;
+
+import jakarta.validation.constraints.NotBlank;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class TokenRefreshRequestDto {
+    @NotBlank
+    private String refreshToken;
+}
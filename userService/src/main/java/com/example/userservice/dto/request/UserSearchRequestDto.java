@@ -0,0 +1,19 @@
+package com.example.userservice.dto.request;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+// 닉네임 검색 (excludedIds: 결과에서 뺄 사용자, 보통 친구 + 본인)
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserSearchRequestDto {
+
+    private String userName;
+    private List<Long> excludedIds;
+    private int page;
+    private int size = 20;
+}
@@ -0,0 +1,19 @@
+package com.example.userservice.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+// 로그인된 기기 목록
+@Getter
+@Builder
+@AllArgsConstructor
+public class SessionResponseDto {
+    private String sessionId;
+    private String device;
+    private LocalDateTime createdAt;
+    private LocalDateTime lastUsedAt;
+    private boolean current;
+}
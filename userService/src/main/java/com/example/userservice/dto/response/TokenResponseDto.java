@@ -0,0 +1,12 @@
+package com.example.userservice.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 토큰 재발급 결과 (리프레시 토큰도 매번 새로 발급됨)
+@Getter
+@AllArgsConstructor
+public class TokenResponseDto {
+    private String accessToken;
+    private String refreshToken;
+}
@@ -0,0 +1,17 @@
+package com.example.userservice.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// 다른 서비스에서 여러 사용자를 한 번에 조회할 때 쓰는 프로필 (Feign)
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserProfileDto {
+    private Long id;
+    private String userName;
+    private String profileImageUrl;
+}
@@ -9,7 +9,6 @@ import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
 import java.time.LocalDateTime;
-import java.util.Date;
 import java.util.List;
 
 @Entity
@@ -48,18 +47,4 @@ public class User {
     @OneToOne(mappedBy = "user", cascade = CascadeType.ALL, orphanRemoval = true ,fetch = FetchType.EAGER)
     @JsonManagedReference
     private ProfileImage profileImage;
-
-    @Column(name = "access_token")
-    private String accessToken;
-
-    @Column(name = "refresh_token")
-    private String refreshToken;
-
-    @Temporal(TemporalType.TIMESTAMP)
-    @Column(name = "access_token_expiry")
-    private Date accessTokenExpiry;
-
-    @Temporal(TemporalType.TIMESTAMP)
-    @Column(name = " refresh_token_expiry")
-    private Date refreshTokenExpiry;
 }
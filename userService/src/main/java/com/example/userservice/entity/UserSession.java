@@ -0,0 +1,50 @@
+package com.example.userservice.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+// 로그인 세션 (기기마다 한 행, 리프레시 토큰은 해시만 저장)
+@Entity
+@Table(
+        name = "user_session",
+        uniqueConstraints = @UniqueConstraint(name = "uk_user_session_session_id", columnNames = "us_session_id"),
+        indexes = {
+                @Index(name = "idx_user_session_user", columnList = "u_idx, us_last_used_at"),
+                @Index(name = "idx_user_session_expires", columnList = "us_expires_at")
+        }
+)
+@Getter @Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserSession {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "us_idx")
+    private Long idx;
+
+    @Column(name = "us_session_id", nullable = false, length = 36)
+    private String sessionId;
+
+    @Column(name = "u_idx", nullable = false)
+    private Long userIdx;
+
+    // 현재 유효한 리프레시 토큰의 SHA-256 (재발급마다 교체)
+    @Column(name = "us_refresh_hash", nullable = false, length = 64)
+    private String refreshTokenHash;
+
+    @Column(name = "us_device")
+    private String device;
+
+    @Column(name = "us_created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "us_last_used_at", nullable = false)
+    private LocalDateTime lastUsedAt;
+
+    @Column(name = "us_expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+}
@@ -0,0 +1,35 @@
+package com.example.userservice.event;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.stereotype.Component;
+
+// 토큰 폐기를 모든 인스턴스에 알림
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class TokenRevocationPublisher {
+
+    private final KafkaTemplate<String, String> kafkaTemplate;
+    private final ObjectMapper objectMapper;
+
+    @Value("${topics.token-revoked}")
+    private String topic;
+
+    public void publish(TokenRevokedEvent event) {
+        try {
+            kafkaTemplate.send(topic, event.getJti(), objectMapper.writeValueAsString(event))
+                    .whenComplete((result, e) -> {
+                        if (e != null) {
+                            log.error("Failed to publish token revocation: jti={}", event.getJti(), e);
+                        }
+                    });
+        } catch (JsonProcessingException e) {
+            log.error("Failed to serialize token revocation: jti={}", event.getJti(), e);
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package com.example.userservice.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// 로그아웃 등으로 폐기된 토큰 (jti, 만료 시각 epoch millis)
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TokenRevokedEvent {
+    private String jti;
+    private long expiresAt;
+}
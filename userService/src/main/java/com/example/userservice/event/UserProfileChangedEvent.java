@@ -0,0 +1,22 @@
+package com.example.userservice.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+// 닉네임/프로필 이미지 변경, 탈퇴 시 발행 (다른 서비스의 프로필 캐시 무효화용)
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserProfileChangedEvent {
+
+    private Long userId;
+    private String userName;
+    private String profileImageUrl;
+    private boolean deleted;
+    private LocalDateTime occurredAt;
+}
@@ -0,0 +1,42 @@
+package com.example.userservice.event;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 프로필 변경 이벤트를 커밋 후에 Kafka 로 발행
+ * 롤백된 변경은 발행되지 않고, 캐시를 지운 쪽이 커밋 전 값을 다시 읽어 가는 일도 없다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class UserProfileEventPublisher {
+
+    private final KafkaTemplate<String, String> kafkaTemplate;
+    private final ObjectMapper objectMapper;
+
+    @Value("${topics.user-profile}")
+    private String topic;
+
+    // 트랜잭션 밖에서 발생한 이벤트(카카오 가입 등)는 바로 발행
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void publish(UserProfileChangedEvent event) {
+        try {
+            kafkaTemplate.send(topic, String.valueOf(event.getUserId()), objectMapper.writeValueAsString(event))
+                    .whenComplete((result, e) -> {
+                        if (e != null) {
+                            log.error("Failed to publish user profile event: userId={}", event.getUserId(), e);
+                        }
+                    });
+        } catch (JsonProcessingException e) {
+            log.error("Failed to serialize user profile event: userId={}", event.getUserId(), e);
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.example.userservice.event;
+
+import com.example.userservice.service.UserSearchIndex;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.stereotype.Component;
+
+// 가입/닉네임 변경/탈퇴를 검색 인덱스에 반영 (인스턴스마다 다른 group 으로 모든 인스턴스가 받음)
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class UserSearchIndexConsumer {
+
+    private final UserSearchIndex userSearchIndex;
+    private final ObjectMapper objectMapper;
+
+    @KafkaListener(topics = "${topics.user-profile}",
+            groupId = "${spring.application.name}-search-${user.instance-id}",
+            properties = "auto.offset.reset=latest")
+    public void consume(String payload) {
+        try {
+            UserProfileChangedEvent event = objectMapper.readValue(payload, UserProfileChangedEvent.class);
+            if (event.isDeleted()) {
+                userSearchIndex.remove(event.getUserId());
+            } else {
+                userSearchIndex.upsert(event.getUserId(), event.getUserName(), event.getProfileImageUrl());
+            }
+        } catch (JsonProcessingException e) {
+            log.error("Skipping malformed user profile event: {}", payload, e);
+        }
+    }
+}
@@ -9,6 +9,10 @@ public enum LoginErrorCode implements ErrorCode {
     DUPLICATE_EMAIL(HttpStatus.CONFLICT, "이미 사용 중인 이메일입니다."),
     DUPLICATE_USER_NAME(HttpStatus.CONFLICT, "User_name 중복입니다."),
     INVALID_CREDENTIALS(HttpStatus.UNAUTHORIZED, "이메일 또는 비밀번호가 일치하지 않습니다."),
+    INVALID_TOKEN(HttpStatus.UNAUTHORIZED, "유효하지 않은 토큰입니다."),
+    TOO_MANY_LOGIN_ATTEMPTS(HttpStatus.TOO_MANY_REQUESTS, "로그인 시도가 너무 많습니다. 잠시 후 다시 시도해주세요."),
+    LOGIN_BUSY(HttpStatus.SERVICE_UNAVAILABLE, "로그인 요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요."),
+    SESSION_EXPIRED(HttpStatus.UNAUTHORIZED, "로그인 세션이 만료되었습니다. 다시 로그인해주세요."),
     USER_PK(HttpStatus.BAD_REQUEST, "UserPk는 null일 수 없습니다."),
     HTTP_REQUEST(HttpStatus.BAD_REQUEST, "HttpServletRequest는 null일 수 없습니다."),
     OTHER_FIELD(HttpStatus.BAD_REQUEST, "해당 필드는 null일 수 없습니다.");
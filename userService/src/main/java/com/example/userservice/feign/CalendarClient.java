@@ -1,12 +1,12 @@
 package com.example.userservice.feign;
 
-
+import com.example.authcommon.InternalAuthFeignConfiguration;
 import org.springframework.cloud.openfeign.FeignClient;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 
-@FeignClient(name = "calendar-service" , url = "${calendar-service-url}")
+@FeignClient(name = "calendar-service" , url = "${calendar-service-url}", configuration = InternalAuthFeignConfiguration.class)
 public interface CalendarClient {
 
     @PostMapping("calendar-service/create/{userId}")
@@ -1,13 +1,37 @@
 package com.example.userservice.repository;
 
+import com.example.userservice.dto.response.UserProfileDto;
 import com.example.userservice.entity.User;
+import org.springframework.data.domain.Pageable;
+import jakarta.transaction.Transactional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 public interface UserRepository extends JpaRepository<User, Long> {
     Optional<User> findByEmail(String email);
 
-    List<User> findByUserNameContainingAndIdxNotIn(String userName, List<Long> excludedIds);
+    // 여러 사용자 프로필 (users + profile_image 한 번의 조인, 필요한 컬럼만)
+    @Query("SELECT new com.example.userservice.dto.response.UserProfileDto(u.idx, u.userName, p.imgUrl) " +
+            "FROM User u LEFT JOIN u.profileImage p WHERE u.idx IN :userIds ORDER BY u.idx")
+    List<UserProfileDto> findProfilesByIdIn(@Param("userIds") Collection<Long> userIds);
+
+    @Query("SELECT u.userName FROM User u WHERE u.idx = :userIdx")
+    Optional<String> findUserNameByIdx(@Param("userIdx") Long userIdx);
+
+    // 검색 인덱스 적재용 (id 순 keyset, 토큰 컬럼 없이 필요한 값만)
+    @Query("SELECT new com.example.userservice.dto.response.UserProfileDto(u.idx, u.userName, p.imgUrl) " +
+            "FROM User u LEFT JOIN u.profileImage p WHERE u.idx > :afterIdx ORDER BY u.idx")
+    List<UserProfileDto> findProfilesAfter(@Param("afterIdx") Long afterIdx, Pageable pageable);
+
+    // 로그인 시 cost 재조정된 해시로 교체 (비밀번호 컬럼만 갱신)
+    @Transactional
+    @Modifying
+    @Query("UPDATE User u SET u.password = :password WHERE u.idx = :userIdx")
+    int updatePassword(@Param("userIdx") Long userIdx, @Param("password") String password);
 }
@@ -0,0 +1,36 @@
+package com.example.userservice.repository;
+
+import com.example.userservice.entity.UserSession;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+public interface UserSessionRepository extends JpaRepository<UserSession, Long> {
+
+    Optional<UserSession> findBySessionId(String sessionId);
+
+    List<UserSession> findByUserIdxOrderByLastUsedAtDesc(Long userIdx);
+
+    // 제시된 리프레시 토큰이 현재 토큰일 때만 교체 (동시 재발급/재사용 시 0 건)
+    @Modifying
+    @Query("UPDATE UserSession s SET s.refreshTokenHash = :newHash, s.lastUsedAt = :now, s.expiresAt = :expiresAt " +
+            "WHERE s.sessionId = :sessionId AND s.refreshTokenHash = :oldHash AND s.expiresAt > :now")
+    int rotate(@Param("sessionId") String sessionId,
+               @Param("oldHash") String oldHash,
+               @Param("newHash") String newHash,
+               @Param("now") LocalDateTime now,
+               @Param("expiresAt") LocalDateTime expiresAt);
+
+    @Modifying
+    @Query("DELETE FROM UserSession s WHERE s.sessionId = :sessionId")
+    int deleteBySessionId(@Param("sessionId") String sessionId);
+
+    @Modifying
+    @Query("DELETE FROM UserSession s WHERE s.expiresAt < :now")
+    int deleteExpired(@Param("now") LocalDateTime now);
+}
@@ -0,0 +1,118 @@
+package com.example.userservice.security;
+
+import com.example.userservice.exception.commonException.error.BizException;
+import com.example.userservice.exception.loginException.LoginErrorCode;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 로그인 시도 제한 (인스턴스 로컬)
+ * - IP: 토큰 버킷 (분당 ip-per-minute 회, 순간 최대 ip-burst 회)
+ * - 계정: IP 와 무관한 토큰 버킷 (분당 account-per-minute 회, 순간 최대 account-burst 회)
+ *   여러 IP 로 한 계정을 노리는 경우에도 시도 속도가 제한된다. 잠그지 않고 늦추기만 하므로 본인은 잠시 후 다시 시도할 수 있다.
+ * - (계정, IP): 실패 window 안에 account-max-failures 번 실패하면 window 가 지날 때까지 거절, 성공하면 초기화
+ *   계정만으로 잠그면 남이 일부러 틀려서 본인 로그인을 막을 수 있으므로, 잠금은 실패한 IP 에만 걸린다.
+ * BCrypt 를 돌리기 전에 확인하므로 크리덴셜 스터핑이 해시 풀을 점유하지 못한다.
+ */
+@Component
+public class LoginRateLimiter {
+
+    private final Cache<String, TokenBucket> ipBuckets;
+    private final Cache<String, TokenBucket> accountBuckets;
+    private final Cache<String, AtomicInteger> accountFailures;
+    private final int ipBurst;
+    private final double ipRefillPerNanos;
+    private final int accountBurst;
+    private final double accountRefillPerNanos;
+    private final int accountMaxFailures;
+
+    public LoginRateLimiter(@Value("${user.login-rate.ip-per-minute:30}") int ipPerMinute,
+                            @Value("${user.login-rate.ip-burst:10}") int ipBurst,
+                            @Value("${user.login-rate.account-per-minute:10}") int accountPerMinute,
+                            @Value("${user.login-rate.account-burst:5}") int accountBurst,
+                            @Value("${user.login-rate.account-max-failures:5}") int accountMaxFailures,
+                            @Value("${user.login-rate.account-window-minutes:15}") long accountWindowMinutes,
+                            @Value("${user.login-rate.max-keys:100000}") long maxKeys) {
+        this.ipBurst = ipBurst;
+        this.ipRefillPerNanos = ipPerMinute / (double) Duration.ofMinutes(1).toNanos();
+        this.accountBurst = accountBurst;
+        this.accountRefillPerNanos = accountPerMinute / (double) Duration.ofMinutes(1).toNanos();
+        this.accountMaxFailures = accountMaxFailures;
+        this.ipBuckets = Caffeine.newBuilder()
+                .maximumSize(maxKeys)
+                .expireAfterAccess(Duration.ofMinutes(10))
+                .build();
+        this.accountBuckets = Caffeine.newBuilder()
+                .maximumSize(maxKeys)
+                .expireAfterAccess(Duration.ofMinutes(10))
+                .build();
+        this.accountFailures = Caffeine.newBuilder()
+                .maximumSize(maxKeys)
+                .expireAfterWrite(Duration.ofMinutes(accountWindowMinutes))
+                .build();
+    }
+
+    // 해시 전에 호출, 제한에 걸리면 429
+    public void acquire(String clientIp, String email) {
+        if (clientIp != null && !ipBuckets.get(clientIp, ip -> new TokenBucket(ipBurst, ipRefillPerNanos)).tryConsume()) {
+            throw new BizException(LoginErrorCode.TOO_MANY_LOGIN_ATTEMPTS);
+        }
+        if (!accountBuckets.get(normalize(email), account -> new TokenBucket(accountBurst, accountRefillPerNanos)).tryConsume()) {
+            throw new BizException(LoginErrorCode.TOO_MANY_LOGIN_ATTEMPTS);
+        }
+        AtomicInteger failures = accountFailures.getIfPresent(accountKey(clientIp, email));
+        if (failures != null && failures.get() >= accountMaxFailures) {
+            throw new BizException(LoginErrorCode.TOO_MANY_LOGIN_ATTEMPTS);
+        }
+    }
+
+    public void recordFailure(String clientIp, String email) {
+        // 실패할 때마다 값을 새로 써서 window 를 마지막 실패 기준으로 연장
+        accountFailures.asMap().compute(accountKey(clientIp, email), (key, failures) -> {
+            AtomicInteger next = failures != null ? failures : new AtomicInteger();
+            next.incrementAndGet();
+            return next;
+        });
+    }
+
+    public void recordSuccess(String clientIp, String email) {
+        accountFailures.invalidate(accountKey(clientIp, email));
+    }
+
+    private static String accountKey(String clientIp, String email) {
+        return normalize(email) + "|" + clientIp;
+    }
+
+    private static String normalize(String email) {
+        return email == null ? "" : email.trim().toLowerCase();
+    }
+
+    private static final class TokenBucket {
+        private final int capacity;
+        private final double refillPerNanos;
+        private double tokens;
+        private long lastRefill = System.nanoTime();
+
+        private TokenBucket(int capacity, double refillPerNanos) {
+            this.capacity = capacity;
+            this.refillPerNanos = refillPerNanos;
+            this.tokens = capacity;
+        }
+
+        private synchronized boolean tryConsume() {
+            long now = System.nanoTime();
+            tokens = Math.min(capacity, tokens + (now - lastRefill) * refillPerNanos);
+            lastRefill = now;
+            if (tokens < 1) {
+                return false;
+            }
+            tokens -= 1;
+            return true;
+        }
+    }
+}
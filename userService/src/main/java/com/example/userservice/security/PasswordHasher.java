@@ -0,0 +1,145 @@
+package com.example.userservice.security;
+
+import com.example.userservice.exception.commonException.error.BizException;
+import com.example.userservice.exception.loginException.LoginErrorCode;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * BCrypt 해시/검증 전용 스레드 풀
+ * Tomcat 스레드에서 BCrypt 를 돌리지 않고, 큐가 가득 차면 바로 거절(503)해서
+ * 로그인 폭주가 다른 API 응답 시간에 번지지 않게 한다.
+ * 비용(cost)은 시작 시 이 서버에서 한 번 해시하는 시간을 재서 목표 시간 안에서 가장 높게 잡는다.
+ */
+@Component
+@Slf4j
+public class PasswordHasher {
+
+    private static final Pattern BCRYPT_COST = Pattern.compile("^\\$2[abxy]?\\$(\\d{2})\\$");
+    private static final String CALIBRATION_PASSWORD = "calibration-P@ssw0rd";
+
+    private final ThreadPoolExecutor executor;
+    private final BCryptPasswordEncoder encoder;
+    private final int cost;
+    private final Timer matchesTimer;
+    private final Timer encodeTimer;
+
+    public PasswordHasher(MeterRegistry meterRegistry,
+                          @Value("${user.password-hash.threads:0}") int threads,
+                          @Value("${user.password-hash.queue-capacity:100}") int queueCapacity,
+                          @Value("${user.password-hash.target-ms:250}") long targetMillis,
+                          @Value("${user.password-hash.min-cost:10}") int minCost,
+                          @Value("${user.password-hash.max-cost:14}") int maxCost) {
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        AtomicInteger sequence = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "password-hash-" + sequence.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+
+        this.cost = calibrate(targetMillis, minCost, maxCost);
+        this.encoder = new BCryptPasswordEncoder(cost);
+
+        this.matchesTimer = Timer.builder("user.password.hash.duration")
+                .description("BCrypt 해시 소요 시간")
+                .tag("op", "matches")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.encodeTimer = Timer.builder("user.password.hash.duration")
+                .description("BCrypt 해시 소요 시간")
+                .tag("op", "encode")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        Gauge.builder("user.password.hash.queue", executor, e -> e.getQueue().size())
+                .description("해시 대기 중인 요청 수")
+                .register(meterRegistry);
+        Gauge.builder("user.password.hash.cost", () -> cost)
+                .register(meterRegistry);
+    }
+
+    public CompletableFuture<Boolean> matchesAsync(String rawPassword, String encodedPassword) {
+        return submit(() -> matchesTimer.record(() -> encoder.matches(rawPassword, encodedPassword)));
+    }
+
+    public CompletableFuture<String> encodeAsync(String rawPassword) {
+        return submit(() -> encodeTimer.record(() -> encoder.encode(rawPassword)));
+    }
+
+    // 회원가입처럼 동기 흐름에서 쓰는 경우 (해시는 풀에서 돌고 호출 스레드는 결과만 기다림)
+    public String encode(String rawPassword) {
+        try {
+            return encodeAsync(rawPassword).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw e;
+        }
+    }
+
+    // 저장된 해시의 cost 가 현재 cost 보다 낮으면 로그인 성공 시 다시 해시
+    public boolean needsRehash(String encodedPassword) {
+        if (encodedPassword == null) {
+            return false;
+        }
+        Matcher matcher = BCRYPT_COST.matcher(encodedPassword);
+        return matcher.find() && Integer.parseInt(matcher.group(1)) < cost;
+    }
+
+    public int getCost() {
+        return cost;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    private <T> CompletableFuture<T> submit(Supplier<T> task) {
+        try {
+            return CompletableFuture.supplyAsync(task, executor);
+        } catch (RejectedExecutionException e) {
+            return CompletableFuture.failedFuture(new BizException(LoginErrorCode.LOGIN_BUSY));
+        }
+    }
+
+    // cost 를 1 올리면 시간이 약 2배가 되므로, 다음 단계가 목표 시간을 넘기 직전까지만 올림
+    private static int calibrate(long targetMillis, int minCost, int maxCost) {
+        int selected = minCost;
+        long elapsed = measure(selected);
+        while (selected < maxCost && elapsed * 2 <= targetMillis) {
+            selected++;
+            elapsed = measure(selected);
+        }
+        log.info("BCrypt cost calibrated: cost={}, hashMillis={}, targetMillis={}", selected, elapsed, targetMillis);
+        return selected;
+    }
+
+    private static long measure(int cost) {
+        BCryptPasswordEncoder candidate = new BCryptPasswordEncoder(cost);
+        long start = System.nanoTime();
+        candidate.encode(CALIBRATION_PASSWORD);
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+    }
+}
@@ -1,5 +1,7 @@
 package com.example.userservice.security.filter;
 
+import com.example.authcommon.JwtTokenVerifier;
+import com.example.authcommon.VerifiedToken;
 import com.example.userservice.security.providers.JwtTokenProvider;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
@@ -19,6 +21,7 @@ import java.io.IOException;
 public class JwtAuthenticationFilter extends GenericFilterBean {
 
     private final JwtTokenProvider jwtTokenProvider;
+    private final JwtTokenVerifier jwtTokenVerifier;
 
     @Override
     public void doFilter(ServletRequest request, ServletResponse response, FilterChain chain) throws IOException, ServletException {
@@ -39,12 +42,10 @@ public class JwtAuthenticationFilter extends GenericFilterBean {
         chain.doFilter(httpRequest, httpResponse);
     }
 
+    // 다른 서비스와 같은 검증기 사용 (서명/만료, 리프레시 토큰, 로그아웃된 토큰 차단)
     private void setAuthenticationFromToken(String token) {
-        if (jwtTokenProvider.validateToken(token)) {
-            Authentication authentication = jwtTokenProvider.getAuthentication(token);
-            SecurityContextHolder.getContext().setAuthentication(authentication);
-        } else {
-            throw new IllegalArgumentException("Invalid JWT token");
-        }
+        VerifiedToken verified = jwtTokenVerifier.verify(token);
+        Authentication authentication = jwtTokenProvider.getAuthentication(verified);
+        SecurityContextHolder.getContext().setAuthentication(authentication);
     }
 }
\ No newline at end of file
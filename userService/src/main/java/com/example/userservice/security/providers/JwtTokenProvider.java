@@ -1,9 +1,13 @@
 package com.example.userservice.security.providers;
 
+import com.example.authcommon.VerifiedToken;
+import com.example.userservice.entity.User;
+import com.example.userservice.security.CustomUserDetails;
 import io.jsonwebtoken.Claims;
-import io.jsonwebtoken.Jws;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
 import jakarta.annotation.PostConstruct;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.Getter;
@@ -14,13 +18,22 @@ import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.stereotype.Component;
 
-import java.util.Base64;
+import java.nio.charset.StandardCharsets;
+import java.security.Key;
 import java.util.Date;
+import java.util.UUID;
 
 @Component
 @Getter
 public class JwtTokenProvider {
 
+    public static final String CLAIM_IDX = "idx";
+    public static final String CLAIM_USER_NAME = "userName";
+    public static final String CLAIM_SESSION_ID = "sid";
+    public static final String CLAIM_TYPE = "typ";
+    public static final String TYPE_ACCESS = "access";
+    public static final String TYPE_REFRESH = "refresh";
+
     @Value("${spring.jwt.secret}")
     private String secretKey;
 
@@ -32,48 +45,82 @@ public class JwtTokenProvider {
 
     private final UserDetailsService userDetailsService;
 
+    // 서명 키와 파서는 시작 시 한 번만 만든다 (요청마다 Base64 디코딩/키 생성 안 함)
+    private Key signingKey;
+    private JwtParser jwtParser;
+
     public JwtTokenProvider(UserDetailsService userDetailsService) {
         this.userDetailsService = userDetailsService;
     }
 
     @PostConstruct
     protected void init() {
-        secretKey = Base64.getEncoder().encodeToString(secretKey.getBytes());
+        // 기존 토큰과 같은 키 바이트 (이전에는 Base64 로 감싼 문자열을 넘겨 jjwt 가 다시 디코딩했음)
+        signingKey = Keys.hmacShaKeyFor(secretKey.getBytes(StandardCharsets.UTF_8));
+        jwtParser = Jwts.parserBuilder()
+                .setSigningKey(signingKey)
+                .build();
     }
 
-    public String createAccessToken(String username) {
-        return createToken(username, tokenValidTime);
+    public String createAccessToken(User user, String sessionId) {
+        return createToken(user, sessionId, TYPE_ACCESS, tokenValidTime);
     }
 
-    public String createRefreshToken(String username) {
-        return createToken(username, refreshTokenValidTime);
+    public String createRefreshToken(User user, String sessionId) {
+        return createToken(user, sessionId, TYPE_REFRESH, refreshTokenValidTime);
     }
 
-    private String createToken(String email, long validTime) {
+    // 필터가 DB 조회 없이 인증 객체를 만들 수 있도록 idx/userName 을 서명된 claim 으로 넣음
+    // sid 는 토큰이 속한 로그인 세션 (user_session)
+    private String createToken(User user, String sessionId, String type, long validTime) {
         Date now = new Date();
         return Jwts.builder()
-                .setSubject(email)
-                .claim("issued", now)
+                .setSubject(user.getEmail())
+                .setId(UUID.randomUUID().toString())
+                .claim(CLAIM_IDX, user.getIdx())
+                .claim(CLAIM_USER_NAME, user.getUserName())
+                .claim(CLAIM_SESSION_ID, sessionId)
+                .claim(CLAIM_TYPE, type)
                 .setIssuedAt(now)
                 .setExpiration(new Date(now.getTime() + validTime))
-                .signWith(SignatureAlgorithm.HS256, secretKey)
+                .signWith(signingKey, SignatureAlgorithm.HS256)
                 .compact();
     }
 
-    public Authentication getAuthentication(String token) {
-        UserDetails userDetails = userDetailsService.loadUserByUsername(this.getUserPk(token));
+    /**
+     * 서명/만료 검증과 claim 추출을 한 번에 처리 (리프레시 토큰 재발급, 로그아웃용)
+     * 액세스 토큰 인증은 authCommon 의 JwtTokenVerifier 가 하고, 검증 실패 시 JwtException 을 던진다.
+     */
+    public Claims parseClaims(String token) {
+        return jwtParser.parseClaimsJws(token).getBody();
+    }
+
+    // 검증된 토큰으로 인증 객체 생성 (idx 가 없는 이전 형식 토큰만 DB 에서 조회)
+    public Authentication getAuthentication(VerifiedToken token) {
+        UserDetails userDetails;
+        if (token.userId() != null) {
+            userDetails = CustomUserDetails.builder()
+                    .idx(token.userId())
+                    .email(token.email())
+                    .userName(token.userName())
+                    .build();
+        } else {
+            userDetails = userDetailsService.loadUserByUsername(token.email());
+        }
         return new UsernamePasswordAuthenticationToken(userDetails, "", userDetails.getAuthorities());
     }
 
-    public String getUserPk(String token) {
-        System.out.println("token = " + token);
-        return Jwts.parserBuilder()
-                .setSigningKey(secretKey)
-                .build()
-                .parseClaimsJws(token)
-                .getBody()
-                .getSubject();
+    // 클레임에 담긴 값으로 토큰 재발급용 User 구성 (DB 조회 안 함)
+    public User toTokenUser(Claims claims) {
+        return User.builder()
+                .idx(claims.get(CLAIM_IDX, Long.class))
+                .email(claims.getSubject())
+                .userName(claims.get(CLAIM_USER_NAME, String.class))
+                .build();
+    }
 
+    public String getUserPk(String token) {
+        return parseClaims(token).getSubject();
     }
 
     public String resolveToken(HttpServletRequest request) {
@@ -83,24 +130,4 @@ public class JwtTokenProvider {
         }
         return null;
     }
-
-    public boolean validateToken(String jwtToken) {
-        try {
-            Jws<Claims> claims = Jwts.parserBuilder()
-                    .setSigningKey(secretKey)
-                    .build()
-                    .parseClaimsJws(jwtToken);
-            return !claims.getBody().getExpiration().before(new Date());
-        } catch (Exception e) {
-            return false;
-        }
-    }
-
-    public Date getAccessTokenExpiryDate() {
-        return new Date(System.currentTimeMillis() + tokenValidTime);
-    }
-
-    public Date getRefreshTokenExpiryDate() {
-        return new Date(System.currentTimeMillis() + refreshTokenValidTime);
-    }
 }
@@ -6,8 +6,10 @@ import com.example.userservice.dto.KakaoTokenDto;
 import com.example.userservice.dto.request.KakaoUserInfoDto;
 import com.example.userservice.entity.ProfileImage;
 import com.example.userservice.entity.User;
+import com.example.userservice.event.UserProfileChangedEvent;
 import com.example.userservice.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.core.env.Environment;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
@@ -21,6 +23,7 @@ import org.springframework.web.client.RestTemplate;
 
 import java.io.InputStream;
 import java.net.URL;
+import java.time.LocalDateTime;
 import java.util.UUID;
 
 @Service
@@ -30,6 +33,7 @@ public class KakaoLoginServiceImpl implements KakaoLoginService {
     private final UserRepository userRepository;
     private final Environment environment;
     private final ImageService imageService;
+    private final ApplicationEventPublisher eventPublisher;
 
     private final RestTemplate restTemplate = new RestTemplate();
 
@@ -91,7 +95,6 @@ public class KakaoLoginServiceImpl implements KakaoLoginService {
                 .password(UUID.randomUUID().toString()) // 일반 로그인과 충돌을 피하기 위한 임시 패스워드
                 .userName(kakaoUserInfoDto.getKakaoAccount().getProfile().getNickname())
                 .provider(Provider.KAKAO)
-                .accessToken(accessToken)
                 .build();
 
         user = userRepository.save(user);
@@ -120,17 +123,38 @@ public class KakaoLoginServiceImpl implements KakaoLoginService {
         user.setProfileImage(profileImage);
         profileImage.setUser(user);
 
-        return userRepository.save(user);
+        User savedUser = userRepository.save(user);
+        // 검색 인덱스 등 다른 곳에 새 사용자 반영
+        eventPublisher.publishEvent(UserProfileChangedEvent.builder()
+                .userId(savedUser.getIdx())
+                .userName(savedUser.getUserName())
+                .profileImageUrl(profileImage.getImgUrl())
+                .deleted(false)
+                .occurredAt(LocalDateTime.now())
+                .build());
+        return savedUser;
     }
 
 
+    // 기존 사용자 로그인: 프로필 이미지가 바뀐 경우에만 users 쪽을 저장 (토큰은 세션 저장소에 보관)
     private User updateUserEntity(User user, KakaoUserInfoDto kakaoUserInfoDto, String accessToken) {
-        user.setAccessToken(accessToken);
         String profileImageUrl = kakaoUserInfoDto.getKakaoAccount().getProfile().getProfileImageUrl();
-        if (profileImageUrl != null && !profileImageUrl.isEmpty()) {
-            user.getProfileImage().setImgUrl(profileImageUrl);
+        ProfileImage profileImage = user.getProfileImage();
+        if (profileImageUrl == null || profileImageUrl.isEmpty()
+                || profileImage == null || profileImageUrl.equals(profileImage.getImgUrl())) {
+            return user;
         }
-        return userRepository.save(user);
+
+        profileImage.setImgUrl(profileImageUrl);
+        User savedUser = userRepository.save(user);
+        eventPublisher.publishEvent(UserProfileChangedEvent.builder()
+                .userId(savedUser.getIdx())
+                .userName(savedUser.getUserName())
+                .profileImageUrl(profileImageUrl)
+                .deleted(false)
+                .occurredAt(LocalDateTime.now())
+                .build());
+        return savedUser;
     }
 
     private HttpHeaders createHeaders() {
@@ -1,11 +1,21 @@
 package com.example.userservice.service;
 
 import com.example.userservice.dto.response.LoginResponseDto;
+import com.example.userservice.dto.response.SessionResponseDto;
+import com.example.userservice.dto.response.TokenResponseDto;
 import com.example.userservice.entity.User;
 import org.springframework.stereotype.Service;
 
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
 @Service
 public interface LoginService {
-    String loginUser(String email, String password);
-    LoginResponseDto generateAndSaveTokens(User user);
+    CompletableFuture<LoginResponseDto> login(String email, String password, String clientIp, String device);
+    LoginResponseDto generateAndSaveTokens(User user, String device);
+    TokenResponseDto refresh(String refreshToken);
+    void logout(String accessToken);
+    List<SessionResponseDto> getSessions(Long userIdx, String currentSessionId);
+    void endSession(Long userIdx, String sessionId);
+    String getSessionId(String accessToken);
 }
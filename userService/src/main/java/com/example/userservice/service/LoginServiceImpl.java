@@ -1,46 +1,84 @@
 package com.example.userservice.service;
 
+import com.example.authcommon.TokenRevocationList;
 import com.example.userservice.dto.response.LoginResponseDto;
+import com.example.userservice.dto.response.SessionResponseDto;
+import com.example.userservice.dto.response.TokenResponseDto;
 import com.example.userservice.entity.User;
+import com.example.userservice.entity.UserSession;
+import com.example.userservice.event.TokenRevocationPublisher;
+import com.example.userservice.event.TokenRevokedEvent;
 import com.example.userservice.exception.commonException.error.BizException;
 import com.example.userservice.exception.loginException.EmailNotFoundException;
+import com.example.userservice.exception.loginException.InvalidCredentialsException;
 import com.example.userservice.exception.loginException.LoginErrorCode;
 import com.example.userservice.repository.UserRepository;
+import com.example.userservice.security.LoginRateLimiter;
+import com.example.userservice.security.PasswordHasher;
 import com.example.userservice.security.providers.JwtTokenProvider;
-import jakarta.transaction.Transactional;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
 import lombok.RequiredArgsConstructor;
-import org.springframework.security.crypto.password.PasswordEncoder;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.stream.Collectors;
+
 @Service
 @RequiredArgsConstructor
+@Slf4j
 public class LoginServiceImpl implements LoginService {
 
     private final UserRepository userRepository;
     private final JwtTokenProvider jwtTokenProvider;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHasher passwordHasher;
+    private final LoginRateLimiter loginRateLimiter;
+    private final TokenRevocationList tokenRevocationList;
+    private final TokenRevocationPublisher tokenRevocationPublisher;
+    private final SessionStore sessionStore;
+    // Spring Boot 기본 작업 풀 (스케줄러도 Executor 라서 빈 이름으로 주입됨)
+    private final Executor applicationTaskExecutor;
 
-    @Transactional
+    /**
+     * 이메일/비밀번호 로그인
+     * 시도 제한을 먼저 확인하고, BCrypt 검증은 PasswordHasher 풀에서 비동기로 수행한다.
+     * 해시 풀에서는 검증만 하고, 세션 저장(DB) 등 나머지는 applicationTaskExecutor 에서 이어서 처리한다.
+     * 저장된 해시의 cost 가 현재 cost 보다 낮으면 성공한 로그인의 평문으로 다시 해시해 둔다.
+     */
     @Override
-    public String loginUser(String email, String password) {
-        User user = userRepository.findByEmail(email)
-                .orElseThrow(() -> new EmailNotFoundException(LoginErrorCode.EMAIL_NOT_FOUND));
+    public CompletableFuture<LoginResponseDto> login(String email, String password, String clientIp, String device) {
+        loginRateLimiter.acquire(clientIp, email);
 
-        if (!passwordEncoder.matches(password, user.getPassword())) {
-            throw new BizException(LoginErrorCode.INVALID_CREDENTIALS);
+        User user = userRepository.findByEmail(email).orElse(null);
+        if (user == null) {
+            loginRateLimiter.recordFailure(clientIp, email);
+            throw new EmailNotFoundException(LoginErrorCode.EMAIL_NOT_FOUND);
         }
 
-        // 토큰 생성 및 저장
-        return generateAndSaveTokens(user).getAccessToken();
+        return passwordHasher.matchesAsync(password, user.getPassword())
+                .thenApplyAsync(matched -> {
+                    if (!matched) {
+                        loginRateLimiter.recordFailure(clientIp, email);
+                        throw new InvalidCredentialsException(LoginErrorCode.INVALID_CREDENTIALS);
+                    }
+                    loginRateLimiter.recordSuccess(clientIp, email);
+                    rehashIfNeeded(user, password);
+                    return generateAndSaveTokens(user, device);
+                }, applicationTaskExecutor);
     }
 
-    @Transactional
+    // 새 로그인 세션 발급 (users 행은 수정하지 않음)
     @Override
-    public LoginResponseDto generateAndSaveTokens(User user) {
-        String accessToken = createAndSaveAccessToken(user);
-        String refreshToken = createAndSaveRefreshToken(user);
+    public LoginResponseDto generateAndSaveTokens(User user, String device) {
+        String sessionId = UUID.randomUUID().toString();
+        String accessToken = jwtTokenProvider.createAccessToken(user, sessionId);
+        String refreshToken = jwtTokenProvider.createRefreshToken(user, sessionId);
 
-        User dbUser = userRepository.save(user);
+        sessionStore.create(sessionId, user.getIdx(), refreshToken, device);
 
         return LoginResponseDto.builder()
                 .idx(user.getIdx())
@@ -48,21 +86,104 @@ public class LoginServiceImpl implements LoginService {
                 .refreshToken(refreshToken)
                 .email(user.getEmail())
                 .userName(user.getUserName())
-                .profileImageUrl(dbUser.getProfileImage() != null ? dbUser.getProfileImage().getImgUrl() : "")
+                .profileImageUrl(user.getProfileImage() != null ? user.getProfileImage().getImgUrl() : "")
                 .build();
     }
 
-    private String createAndSaveAccessToken(User user) {
-        String accessToken = jwtTokenProvider.createAccessToken(user.getEmail());
-        user.setAccessToken(accessToken);
-        user.setAccessTokenExpiry(jwtTokenProvider.getAccessTokenExpiryDate());
-        return accessToken;
+    /**
+     * 리프레시 토큰으로 액세스/리프레시 토큰 재발급 (DB 는 세션 UPDATE 한 번)
+     * 이미 사용된 리프레시 토큰이 다시 오면 탈취로 보고 세션을 끝낸다.
+     */
+    @Override
+    public TokenResponseDto refresh(String refreshToken) {
+        Claims claims = parseOrThrow(refreshToken);
+        String sessionId = claims.get(JwtTokenProvider.CLAIM_SESSION_ID, String.class);
+        // 세션 도입 전에 발급된 리프레시 토큰은 다시 로그인해야 함
+        if (!JwtTokenProvider.TYPE_REFRESH.equals(claims.get(JwtTokenProvider.CLAIM_TYPE, String.class)) || sessionId == null) {
+            throw new BizException(LoginErrorCode.INVALID_TOKEN);
+        }
+
+        UserSession session = sessionStore.find(sessionId)
+                .orElseThrow(() -> new BizException(LoginErrorCode.SESSION_EXPIRED));
+
+        User tokenUser = jwtTokenProvider.toTokenUser(claims);
+        String newAccessToken = jwtTokenProvider.createAccessToken(tokenUser, sessionId);
+        String newRefreshToken = jwtTokenProvider.createRefreshToken(tokenUser, sessionId);
+
+        if (!sessionStore.rotate(session, refreshToken, newRefreshToken)) {
+            sessionStore.remove(sessionId);
+            throw new BizException(LoginErrorCode.SESSION_EXPIRED);
+        }
+        return new TokenResponseDto(newAccessToken, newRefreshToken);
+    }
+
+    // 로그아웃: 토큰 jti 를 만료 시각까지 폐기 목록에 넣고 다른 인스턴스에 전파, 세션 삭제
+    @Override
+    public void logout(String accessToken) {
+        Claims claims = parseOrThrow(accessToken);
+        String sessionId = claims.get(JwtTokenProvider.CLAIM_SESSION_ID, String.class);
+        if (sessionId != null) {
+            sessionStore.remove(sessionId);
+        }
+        revoke(claims);
+    }
+
+    @Override
+    public List<SessionResponseDto> getSessions(Long userIdx, String currentSessionId) {
+        return sessionStore.findByUser(userIdx).stream()
+                .map(session -> SessionResponseDto.builder()
+                        .sessionId(session.getSessionId())
+                        .device(session.getDevice())
+                        .createdAt(session.getCreatedAt())
+                        .lastUsedAt(session.getLastUsedAt())
+                        .current(session.getSessionId().equals(currentSessionId))
+                        .build())
+                .collect(Collectors.toList());
     }
 
-    private String createAndSaveRefreshToken(User user) {
-        String refreshToken = jwtTokenProvider.createRefreshToken(user.getEmail());
-        user.setRefreshToken(refreshToken);
-        user.setRefreshTokenExpiry(jwtTokenProvider.getRefreshTokenExpiryDate());
-        return refreshToken;
+    // 다른 기기 로그아웃 (그 기기의 액세스 토큰은 만료까지 유효, 재발급만 막힘)
+    @Override
+    public void endSession(Long userIdx, String sessionId) {
+        UserSession session = sessionStore.find(sessionId)
+                .filter(s -> s.getUserIdx().equals(userIdx))
+                .orElseThrow(() -> new BizException(LoginErrorCode.SESSION_EXPIRED));
+        sessionStore.remove(session.getSessionId());
+    }
+
+    @Override
+    public String getSessionId(String accessToken) {
+        return parseOrThrow(accessToken).get(JwtTokenProvider.CLAIM_SESSION_ID, String.class);
+    }
+
+    // 해시 풀이 바쁘면 건너뛰고 다음 로그인에서 다시 시도
+    private void rehashIfNeeded(User user, String rawPassword) {
+        if (!passwordHasher.needsRehash(user.getPassword())) {
+            return;
+        }
+        // 해시 풀에서는 해시만 하고 DB UPDATE 는 작업 풀에서 실행
+        passwordHasher.encodeAsync(rawPassword)
+                .thenAcceptAsync(encoded -> userRepository.updatePassword(user.getIdx(), encoded), applicationTaskExecutor)
+                .exceptionally(e -> {
+                    log.warn("Password rehash skipped: userIdx={}", user.getIdx(), e);
+                    return null;
+                });
+    }
+
+    private Claims parseOrThrow(String token) {
+        try {
+            return jwtTokenProvider.parseClaims(token);
+        } catch (JwtException | IllegalArgumentException e) {
+            throw new BizException(LoginErrorCode.INVALID_TOKEN);
+        }
+    }
+
+    private void revoke(Claims claims) {
+        // jti 가 없는 이전 형식 토큰은 만료될 때까지 유효
+        if (claims.getId() == null) {
+            return;
+        }
+        long expiresAt = claims.getExpiration().getTime();
+        tokenRevocationList.revoke(claims.getId(), expiresAt);
+        tokenRevocationPublisher.publish(new TokenRevokedEvent(claims.getId(), expiresAt));
     }
 }
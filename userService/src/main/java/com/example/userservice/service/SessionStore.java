@@ -0,0 +1,142 @@
+package com.example.userservice.service;
+
+import com.example.userservice.entity.UserSession;
+import com.example.userservice.repository.UserSessionRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.transaction.Transactional;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 로그인 세션 저장소 (user_session 테이블 + 메모리 캐시)
+ * users 행에는 더 이상 토큰을 쓰지 않는다. 사용자당 여러 기기 세션을 가질 수 있다.
+ * 캐시는 조회용이고, 리프레시 토큰 교체는 항상 DB 조건부 UPDATE 로 판정하므로
+ * 다른 인스턴스에서 끝낸 세션이 캐시에 남아 있어도 재발급되지 않는다.
+ */
+@Component
+@Slf4j
+public class SessionStore {
+
+    private final UserSessionRepository userSessionRepository;
+    private final Cache<String, UserSession> sessions;
+    private final long refreshTokenValidTime;
+    private final int maxSessionsPerUser;
+
+    public SessionStore(UserSessionRepository userSessionRepository,
+                        @Value("${spring.jwt.refresh-token-valid-time}") long refreshTokenValidTime,
+                        @Value("${user.session.max-per-user:10}") int maxSessionsPerUser,
+                        @Value("${user.session.cache-max-size:100000}") long cacheMaxSize,
+                        @Value("${user.session.cache-ttl-seconds:300}") long cacheTtlSeconds) {
+        this.userSessionRepository = userSessionRepository;
+        this.refreshTokenValidTime = refreshTokenValidTime;
+        this.maxSessionsPerUser = maxSessionsPerUser;
+        this.sessions = Caffeine.newBuilder()
+                .maximumSize(cacheMaxSize)
+                .expireAfterWrite(Duration.ofSeconds(cacheTtlSeconds))
+                .build();
+    }
+
+    // 새 세션 저장, 사용자당 상한을 넘으면 가장 오래 안 쓴 세션부터 정리
+    @Transactional
+    public UserSession create(String sessionId, Long userIdx, String refreshToken, String device) {
+        LocalDateTime now = LocalDateTime.now();
+        UserSession session = userSessionRepository.save(UserSession.builder()
+                .sessionId(sessionId)
+                .userIdx(userIdx)
+                .refreshTokenHash(hash(refreshToken))
+                .device(device != null && device.length() > 255 ? device.substring(0, 255) : device)
+                .createdAt(now)
+                .lastUsedAt(now)
+                .expiresAt(now.plus(Duration.ofMillis(refreshTokenValidTime)))
+                .build());
+
+        List<UserSession> userSessions = userSessionRepository.findByUserIdxOrderByLastUsedAtDesc(userIdx);
+        for (int i = maxSessionsPerUser; i < userSessions.size(); i++) {
+            UserSession old = userSessions.get(i);
+            userSessionRepository.delete(old);
+            sessions.invalidate(old.getSessionId());
+        }
+
+        sessions.put(sessionId, session);
+        return session;
+    }
+
+    public Optional<UserSession> find(String sessionId) {
+        UserSession session = sessions.get(sessionId, id -> userSessionRepository.findBySessionId(id).orElse(null));
+        if (session == null || session.getExpiresAt().isBefore(LocalDateTime.now())) {
+            return Optional.empty();
+        }
+        return Optional.of(session);
+    }
+
+    /**
+     * 리프레시 토큰 교체
+     * 제시된 토큰이 세션의 현재 토큰이 아니면(이미 쓰인 토큰, 끝난 세션) false
+     */
+    @Transactional
+    public boolean rotate(UserSession session, String presentedToken, String newToken) {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime expiresAt = now.plus(Duration.ofMillis(refreshTokenValidTime));
+        String newHash = hash(newToken);
+
+        int updated = userSessionRepository.rotate(session.getSessionId(), hash(presentedToken), newHash, now, expiresAt);
+        if (updated == 0) {
+            sessions.invalidate(session.getSessionId());
+            return false;
+        }
+
+        // 캐시 값은 공유되므로 수정하지 않고 새 객체로 교체
+        sessions.put(session.getSessionId(), UserSession.builder()
+                .idx(session.getIdx())
+                .sessionId(session.getSessionId())
+                .userIdx(session.getUserIdx())
+                .refreshTokenHash(newHash)
+                .device(session.getDevice())
+                .createdAt(session.getCreatedAt())
+                .lastUsedAt(now)
+                .expiresAt(expiresAt)
+                .build());
+        return true;
+    }
+
+    @Transactional
+    public void remove(String sessionId) {
+        userSessionRepository.deleteBySessionId(sessionId);
+        sessions.invalidate(sessionId);
+    }
+
+    public List<UserSession> findByUser(Long userIdx) {
+        return userSessionRepository.findByUserIdxOrderByLastUsedAtDesc(userIdx);
+    }
+
+    // 만료된 세션 정리
+    @Scheduled(cron = "${user.session.purge-cron:0 30 4 * * *}")
+    @Transactional
+    public void purgeExpired() {
+        int deleted = userSessionRepository.deleteExpired(LocalDateTime.now());
+        if (deleted > 0) {
+            log.info("Purged {} expired user sessions", deleted);
+        }
+    }
+
+    private static String hash(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
@@ -0,0 +1,213 @@
+package com.example.userservice.service;
+
+import org.springframework.stereotype.Component;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/**
+ * 닉네임 검색용 메모리 인덱스 (LIKE '%name%' 전체 스캔 대체)
+ * 닉네임의 1글자/2글자 조각(n-gram)마다 사용자 id 목록을 두고, 검색어 조각 목록의 교집합을 구한 뒤 실제 포함 여부를 확인한다.
+ * 한글은 음절 단위로 조각을 만들고, 초성만 입력한 검색어(ㄱㅁ 등)는 초성 문자열 조각으로 찾는다.
+ * 시작 시 전체를 적재하고(UserSearchIndexLoader), 이후 프로필 변경 이벤트로 갱신한다. (놓친 이벤트는 주기적 재적재로 맞춤)
+ */
+@Component
+public class UserSearchIndex {
+
+    private static final String NAME_GRAM = "n:";
+    private static final String CHOSEONG_GRAM = "c:";
+    private static final char[] CHOSEONG = {
+            'ㄱ', 'ㄲ', 'ㄴ', 'ㄷ', 'ㄸ', 'ㄹ', 'ㅁ', 'ㅂ', 'ㅃ', 'ㅅ',
+            'ㅆ', 'ㅇ', 'ㅈ', 'ㅉ', 'ㅊ', 'ㅋ', 'ㅌ', 'ㅍ', 'ㅎ'
+    };
+
+    private final Map<Long, Entry> entries = new ConcurrentHashMap<>();
+    private final Map<String, Set<Long>> postings = new ConcurrentHashMap<>();
+
+    public record Entry(Long userId, String userName, String profileImageUrl, String normalizedName, String choseong) {
+    }
+
+    // 추가/변경 (쓰기는 드물어서 직렬화, 읽기는 잠금 없음)
+    public synchronized void upsert(Long userId, String userName, String profileImageUrl) {
+        Entry previous = entries.get(userId);
+        String normalizedName = normalize(userName);
+        if (previous != null && !previous.normalizedName().equals(normalizedName)) {
+            removePostings(previous);
+        }
+        Entry entry = new Entry(userId, userName, profileImageUrl, normalizedName, toChoseong(normalizedName));
+        entries.put(userId, entry);
+        grams(NAME_GRAM, entry.normalizedName()).forEach(gram -> postings.computeIfAbsent(gram, key -> ConcurrentHashMap.newKeySet()).add(userId));
+        grams(CHOSEONG_GRAM, entry.choseong()).forEach(gram -> postings.computeIfAbsent(gram, key -> ConcurrentHashMap.newKeySet()).add(userId));
+    }
+
+    public synchronized void remove(Long userId) {
+        Entry previous = entries.remove(userId);
+        if (previous != null) {
+            removePostings(previous);
+        }
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    // 재적재 시 인덱스에만 남은 사용자 확인용 (복사본)
+    public Set<Long> userIds() {
+        return new HashSet<>(entries.keySet());
+    }
+
+    /**
+     * 검색어를 포함하는 사용자 중 excludedIds 를 뺀 결과를 순위대로 page 단위 반환
+     * 순위: 일치 > 앞부분 일치 > 일치 위치가 앞쪽 > 짧은 닉네임 > id
+     * 후보 전체를 정렬하지 않고 (page + 1) * size 개만 힙에 유지한다.
+     */
+    public List<Entry> search(String query, Set<Long> excludedIds, int page, int size) {
+        String normalizedQuery = normalize(query);
+        int offset = (int) Math.min((long) page * size, Integer.MAX_VALUE);
+        int limit = (int) Math.min((long) (page + 1) * size, Integer.MAX_VALUE);
+        if (normalizedQuery.isEmpty() || size <= 0) {
+            return List.of();
+        }
+        boolean choseongQuery = isChoseongOnly(normalizedQuery);
+        String prefix = choseongQuery ? CHOSEONG_GRAM : NAME_GRAM;
+
+        Comparator<Entry> order = Comparator
+                .comparingInt((Entry entry) -> rank(target(entry, choseongQuery), normalizedQuery))
+                .thenComparingInt(entry -> target(entry, choseongQuery).indexOf(normalizedQuery))
+                .thenComparingInt(entry -> entry.normalizedName().length())
+                .thenComparing(Entry::userId);
+
+        // 순위가 가장 낮은 항목이 맨 앞에 오는 힙
+        PriorityQueue<Entry> top = new PriorityQueue<>(Math.min(limit, 1024), order.reversed());
+        forEachCandidate(grams(prefix, normalizedQuery), userId -> {
+            if (excludedIds.contains(userId)) {
+                return;
+            }
+            Entry entry = entries.get(userId);
+            if (entry == null || !target(entry, choseongQuery).contains(normalizedQuery)) {
+                return;
+            }
+            if (top.size() < limit) {
+                top.add(entry);
+            } else if (order.compare(entry, top.peek()) < 0) {
+                top.poll();
+                top.add(entry);
+            }
+        });
+
+        if (top.size() <= offset) {
+            return List.of();
+        }
+        List<Entry> matches = new ArrayList<>(top);
+        matches.sort(order);
+        return matches.subList(offset, matches.size());
+    }
+
+    // 조각별 id 목록 중 가장 작은 것을 돌면서 나머지 목록에 모두 있는 id 만 전달 (목록 복사 없음)
+    private void forEachCandidate(Collection<String> queryGrams, Consumer<Long> action) {
+        List<Set<Long>> lists = new ArrayList<>(queryGrams.size());
+        for (String gram : queryGrams) {
+            Set<Long> ids = postings.get(gram);
+            if (ids == null) {
+                return;
+            }
+            lists.add(ids);
+        }
+        lists.sort(Comparator.comparingInt(Set::size));
+
+        Set<Long> smallest = lists.get(0);
+        List<Set<Long>> others = lists.subList(1, lists.size());
+        for (Long userId : smallest) {
+            boolean inAll = true;
+            for (Set<Long> ids : others) {
+                if (!ids.contains(userId)) {
+                    inAll = false;
+                    break;
+                }
+            }
+            if (inAll) {
+                action.accept(userId);
+            }
+        }
+    }
+
+    private void removePostings(Entry entry) {
+        for (String gram : grams(NAME_GRAM, entry.normalizedName())) {
+            removePosting(gram, entry.userId());
+        }
+        for (String gram : grams(CHOSEONG_GRAM, entry.choseong())) {
+            removePosting(gram, entry.userId());
+        }
+    }
+
+    private void removePosting(String gram, Long userId) {
+        postings.computeIfPresent(gram, (key, ids) -> {
+            ids.remove(userId);
+            return ids.isEmpty() ? null : ids;
+        });
+    }
+
+    // 1글자 조각 + 2글자 조각 (검색어가 1글자면 1글자 조각, 2글자 이상이면 2글자 조각으로 찾음)
+    private static Set<String> grams(String prefix, String text) {
+        Set<String> grams = new LinkedHashSet<>();
+        if (text.length() == 1) {
+            grams.add(prefix + text);
+            return grams;
+        }
+        for (int i = 0; i + 1 < text.length(); i++) {
+            grams.add(prefix + text.charAt(i));
+            grams.add(prefix + text.substring(i, i + 2));
+        }
+        grams.add(prefix + text.charAt(text.length() - 1));
+        return grams;
+    }
+
+    private static String target(Entry entry, boolean choseongQuery) {
+        return choseongQuery ? entry.choseong() : entry.normalizedName();
+    }
+
+    private static int rank(String target, String query) {
+        if (target.equals(query)) {
+            return 0;
+        }
+        return target.startsWith(query) ? 1 : 2;
+    }
+
+    static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        return Normalizer.normalize(text, Normalizer.Form.NFC).strip().toLowerCase(Locale.ROOT);
+    }
+
+    // 한글 음절은 초성으로, 나머지 문자는 그대로
+    static String toChoseong(String text) {
+        StringBuilder builder = new StringBuilder(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            builder.append(c >= 0xAC00 && c <= 0xD7A3 ? CHOSEONG[(c - 0xAC00) / 588] : c);
+        }
+        return builder.toString();
+    }
+
+    private static boolean isChoseongOnly(String text) {
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c < 0x3131 || c > 0x314E) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
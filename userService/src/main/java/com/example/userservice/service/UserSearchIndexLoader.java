@@ -0,0 +1,64 @@
+package com.example.userservice.service;
+
+import com.example.userservice.dto.response.UserProfileDto;
+import com.example.userservice.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 시작 시 전체 사용자로 검색 인덱스 적재 (id 순으로 chunk 단위 조회)
+ * 이벤트를 놓친 경우(컨슈머 장애, 재시작 중 발행 등)를 맞추려고 rebuild-cron 마다 다시 적재하고,
+ * DB 에 없는 사용자는 인덱스에서 뺀다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class UserSearchIndexLoader {
+
+    private final UserRepository userRepository;
+    private final UserSearchIndex userSearchIndex;
+
+    @Value("${user.search.load-chunk-size:5000}")
+    private int chunkSize;
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "${user.search.rebuild-cron:0 0 5 * * *}")
+    public void load() {
+        long startedAt = System.currentTimeMillis();
+        Set<Long> stale = userSearchIndex.userIds();
+        long afterIdx = 0L;
+        List<UserProfileDto> chunk;
+        do {
+            chunk = userRepository.findProfilesAfter(afterIdx, PageRequest.of(0, chunkSize));
+            for (UserProfileDto profile : chunk) {
+                userSearchIndex.upsert(profile.getId(), profile.getUserName(), profile.getProfileImageUrl());
+                stale.remove(profile.getId());
+            }
+            if (!chunk.isEmpty()) {
+                afterIdx = chunk.get(chunk.size() - 1).getId();
+            }
+        } while (chunk.size() == chunkSize);
+
+        // 조회가 끝난 뒤 가입한 사용자(더 큰 id)는 지우지 않음
+        long scannedUpTo = afterIdx;
+        int removed = 0;
+        for (Long userId : stale) {
+            if (userId <= scannedUpTo) {
+                userSearchIndex.remove(userId);
+                removed++;
+            }
+        }
+
+        log.info("User search index loaded: users={}, removed={}, elapsedMs={}",
+                userSearchIndex.size(), removed, System.currentTimeMillis() - startedAt);
+    }
+}
@@ -3,6 +3,8 @@ package com.example.userservice.service;
 import com.example.userservice.dto.request.UserInfoDto;
 import com.example.userservice.dto.request.UserRequestInsertDto;
 import com.example.userservice.dto.request.UserRequestUpdateDto;
+import com.example.userservice.dto.request.UserSearchRequestDto;
+import com.example.userservice.dto.response.UserProfileDto;
 import com.example.userservice.dto.response.UserResponseDto;
 import com.example.userservice.dto.response.UserSearchResponseDto;
 import com.example.userservice.entity.User;
@@ -19,9 +21,11 @@ public interface UserService {
     void updateProfileImage(Long id, MultipartFile imageFile);
     void deleteUser(String email, String authToken);
     List<UserSearchResponseDto> searchUserByUserName(String userName, List<Long> friendIds);
+    List<UserSearchResponseDto> searchUsers(UserSearchRequestDto userSearchRequestDto);
     List<UserSearchResponseDto> searchRequester(List<Long> requesterId);
     List<UserSearchResponseDto> searchFriend(List<Long> requesterId);
     UserInfoDto getUserById(Long userId);
+    List<UserProfileDto> getUserProfiles(List<Long> userIds);
 
     String getUserName(Long userIdx);
 }
@@ -4,10 +4,13 @@ import com.example.userservice.constant.Provider;
 import com.example.userservice.dto.request.UserInfoDto;
 import com.example.userservice.dto.request.UserRequestInsertDto;
 import com.example.userservice.dto.request.UserRequestUpdateDto;
+import com.example.userservice.dto.request.UserSearchRequestDto;
+import com.example.userservice.dto.response.UserProfileDto;
 import com.example.userservice.dto.response.UserResponseDto;
 import com.example.userservice.dto.response.UserSearchResponseDto;
 import com.example.userservice.entity.ProfileImage;
 import com.example.userservice.entity.User;
+import com.example.userservice.event.UserProfileChangedEvent;
 import com.example.userservice.exception.commonException.CommonErrorCode;
 import com.example.userservice.exception.commonException.error.BizException;
 import com.example.userservice.exception.loginException.DuplicateEmailException;
@@ -18,20 +21,24 @@ import com.example.userservice.exception.userException.UserNotFoundException;
 import com.example.userservice.feign.CalendarClient;
 import com.example.userservice.repository.ProfileImageRepository;
 import com.example.userservice.repository.UserRepository;
+import com.example.userservice.security.PasswordHasher;
 import com.example.userservice.security.providers.JwtTokenProvider;
 import jakarta.persistence.EntityManager;
 import jakarta.transaction.Transactional;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.dao.DuplicateKeyException;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.time.LocalDateTime;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Service
@@ -40,13 +47,18 @@ import java.util.stream.Collectors;
 @Validated
 public class UserServiceImpl implements UserService {
 
+    private static final int DEFAULT_SEARCH_SIZE = 50;
+    private static final int MAX_SEARCH_SIZE = 100;
+
     private final UserRepository userRepository;
     private final ProfileImageRepository profileImageRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHasher passwordHasher;
     private final ImageService imageService;
     private final EntityManager entityManager;
     private final JwtTokenProvider jwtTokenProvider;
     private final CalendarClient calendarClient;
+    private final ApplicationEventPublisher eventPublisher;
+    private final UserSearchIndex userSearchIndex;
 
     // 회원가입
     @Override
@@ -55,13 +67,14 @@ public class UserServiceImpl implements UserService {
         try {
             User user = User.builder()
                     .email(userRequestInsertDto.getEmail())
-                    .password(passwordEncoder.encode(userRequestInsertDto.getPassword()))
+                    .password(passwordHasher.encode(userRequestInsertDto.getPassword()))
                     .userName(userRequestInsertDto.getUserName())
                     .provider(Provider.LOCAL)
                     .build();
 
             userRepository.save(user);
             calendarClient.createCalendar(user.getIdx());
+            publishProfileChanged(user, false);
 
             return ResponseEntity.ok(new UserResponseDto(user.getIdx()));
 
@@ -80,14 +93,24 @@ public class UserServiceImpl implements UserService {
 
     //유저 검색(feign)
     @Override
-    @Transactional
     public List<UserSearchResponseDto> searchUserByUserName(String userName, List<Long> friendIds) {
+        return searchUsers(new UserSearchRequestDto(userName, friendIds, 0, DEFAULT_SEARCH_SIZE));
+    }
 
-        return userRepository.findByUserNameContainingAndIdxNotIn(userName, friendIds).stream()
-                .map(foundUser -> new UserSearchResponseDto(
-                        foundUser.getIdx(),
-                        foundUser.getUserName(),
-                        foundUser.getProfileImage() != null ? foundUser.getProfileImage().getImgUrl() : "/images/default.png"
+    // 닉네임 검색: 메모리 인덱스 조회 후 제외 목록은 HashSet 으로 거름
+    @Override
+    public List<UserSearchResponseDto> searchUsers(UserSearchRequestDto userSearchRequestDto) {
+        Set<Long> excludedIds = userSearchRequestDto.getExcludedIds() == null
+                ? Set.of()
+                : new HashSet<>(userSearchRequestDto.getExcludedIds());
+        int size = Math.max(1, Math.min(userSearchRequestDto.getSize(), MAX_SEARCH_SIZE));
+        int page = Math.max(0, userSearchRequestDto.getPage());
+
+        return userSearchIndex.search(userSearchRequestDto.getUserName(), excludedIds, page, size).stream()
+                .map(entry -> new UserSearchResponseDto(
+                        entry.userId(),
+                        entry.userName(),
+                        entry.profileImageUrl() != null ? entry.profileImageUrl() : "/images/default.png"
                 ))
                 .collect(Collectors.toList());
     }
@@ -96,28 +119,14 @@ public class UserServiceImpl implements UserService {
     @Override
     @Transactional                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                                
     public List<UserSearchResponseDto> searchRequester(List<Long> requesterId) {
-
-        return userRepository.findAllById(requesterId).stream()
-                .map(foundUser -> new UserSearchResponseDto(
-                        foundUser.getIdx(),
-                        foundUser.getUserName(),
-                        foundUser.getProfileImage() != null ? foundUser.getProfileImage().getImgUrl() : "/images/default.png"
-                ))
-                .collect(Collectors.toList());
+        return toSearchResponses(getUserProfiles(requesterId));
     }
 
     // 친구 목록 조회(feign)
     @Override
     @Transactional
     public List<UserSearchResponseDto> searchFriend(List<Long> friendsId) {
-
-        return userRepository.findAllById(friendsId).stream()
-                .map(foundUser -> new UserSearchResponseDto(
-                        foundUser.getIdx(),
-                        foundUser.getUserName(),
-                        foundUser.getProfileImage() != null ? foundUser.getProfileImage().getImgUrl() : "/images/default.png"
-                ))
-                .collect(Collectors.toList());
+        return toSearchResponses(getUserProfiles(friendsId));
     }
 
     @Transactional
@@ -134,12 +143,26 @@ public class UserServiceImpl implements UserService {
     }
 
 
+    // 여러 사용자 프로필 한 번에 조회(Feign)
+    @Override
+    @Transactional
+    public List<UserProfileDto> getUserProfiles(List<Long> userIds) {
+        if (userIds == null || userIds.isEmpty()) {
+            return List.of();
+        }
+        List<UserProfileDto> profiles = userRepository.findProfilesByIdIn(new HashSet<>(userIds));
+        profiles.stream()
+                .filter(profile -> profile.getProfileImageUrl() == null)
+                .forEach(profile -> profile.setProfileImageUrl("/images/default.png"));
+        return profiles;
+    }
+
+
     // userName 조회(Feign)
     @Override
     public String getUserName(Long userIdx) {
-        User user = userRepository.findById(userIdx)
+        return userRepository.findUserNameByIdx(userIdx)
                 .orElseThrow(() -> new IllegalArgumentException("User not found with id: " + userIdx));
-        return user.getUserName();
     }
 
 
@@ -156,6 +179,7 @@ public class UserServiceImpl implements UserService {
             }
 
             userRepository.save(updateUser);
+            publishProfileChanged(updateUser, false);
 
         } catch (Exception e) {
             throw new RuntimeException("닉네임 업데이트 중 오류 발생", e);
@@ -183,6 +207,7 @@ public class UserServiceImpl implements UserService {
                 profileImage.setUser(updateUser);
                 updateUser.setProfileImage(profileImage);
             }
+            publishProfileChanged(updateUser, false);
         } catch (Exception e) {
             throw new RuntimeException("프로필 이미지 업데이트 중 오류 발생", e);
         }
@@ -204,5 +229,23 @@ public class UserServiceImpl implements UserService {
 
         userRepository.deleteById(user.getIdx());
         calendarClient.deleteCalendar(user.getIdx());
+        publishProfileChanged(user, true);
+    }
+
+    private List<UserSearchResponseDto> toSearchResponses(List<UserProfileDto> profiles) {
+        return profiles.stream()
+                .map(profile -> new UserSearchResponseDto(profile.getId(), profile.getUserName(), profile.getProfileImageUrl()))
+                .collect(Collectors.toList());
+    }
+
+    // 커밋 후 Kafka 로 발행됨 (UserProfileEventPublisher)
+    private void publishProfileChanged(User user, boolean deleted) {
+        eventPublisher.publishEvent(UserProfileChangedEvent.builder()
+                .userId(user.getIdx())
+                .userName(user.getUserName())
+                .profileImageUrl(user.getProfileImage() != null ? user.getProfileImage().getImgUrl() : "/images/default.png")
+                .deleted(deleted)
+                .occurredAt(LocalDateTime.now())
+                .build());
     }
 }
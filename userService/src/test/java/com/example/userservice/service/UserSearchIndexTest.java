@@ -0,0 +1,70 @@
+package com.example.userservice.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class UserSearchIndexTest {
+
+    private UserSearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new UserSearchIndex();
+        index.upsert(1L, "김민수", null);
+        index.upsert(2L, "민수", null);
+        index.upsert(3L, "이민수진", null);
+        index.upsert(4L, "박지민", null);
+        index.upsert(5L, "Minsu", null);
+    }
+
+    @Test
+    void findsHangulSubstringInRankOrder() {
+        // 일치 > 앞부분 일치 > 일치 위치가 앞쪽 > 짧은 닉네임
+        assertThat(ids(index.search("민수", Set.of(), 0, 10))).containsExactly(2L, 1L, 3L);
+        assertThat(ids(index.search("민", Set.of(), 0, 10))).containsExactly(2L, 1L, 3L, 4L);
+    }
+
+    @Test
+    void findsByInitialConsonants() {
+        assertThat(ids(index.search("ㅁㅅ", Set.of(), 0, 10))).containsExactly(2L, 1L, 3L);
+        assertThat(ids(index.search("ㄱㅁㅅ", Set.of(), 0, 10))).containsExactly(1L);
+    }
+
+    @Test
+    void matchesLatinNamesCaseInsensitively() {
+        assertThat(ids(index.search("MIN", Set.of(), 0, 10))).containsExactly(5L);
+    }
+
+    @Test
+    void renameRemovesOldGrams() {
+        index.upsert(2L, "철수", null);
+
+        assertThat(ids(index.search("민수", Set.of(), 0, 10))).containsExactly(1L, 3L);
+        assertThat(ids(index.search("ㅊㅅ", Set.of(), 0, 10))).containsExactly(2L);
+        assertThat(ids(index.search("철수", Set.of(), 0, 10))).containsExactly(2L);
+    }
+
+    @Test
+    void removeDropsUserFromResults() {
+        index.remove(1L);
+
+        assertThat(ids(index.search("민수", Set.of(), 0, 10))).containsExactly(2L, 3L);
+        assertThat(index.userIds()).doesNotContain(1L);
+    }
+
+    @Test
+    void pagesAndExcludesIds() {
+        assertThat(ids(index.search("민", Set.of(), 1, 2))).containsExactly(3L, 4L);
+        assertThat(ids(index.search("민", Set.of(), 2, 2))).isEmpty();
+        assertThat(ids(index.search("민", Set.of(2L), 0, 2))).containsExactly(1L, 3L);
+    }
+
+    private static List<Long> ids(List<UserSearchIndex.Entry> entries) {
+        return entries.stream().map(UserSearchIndex.Entry::userId).toList();
+    }
+}